@@ -0,0 +1,34 @@
+package bench.jmh;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar: JMH's own command line, except results
+ * are written as JSON to jmh-results/jmh-yyyyMMdd-HHmmss.json unless -rf
+ * or -rff is given. Two runs can then be compared with any JMH visualizer
+ * or a diff of the files.
+ *
+ * Run (from the repository root, assets load from src/assets):
+ *   java -jar benchmarks/target/benchmarks.jar                run everything
+ *   java -jar benchmarks/target/benchmarks.jar PathSearch     just the matching classes
+ *   java -jar benchmarks/target/benchmarks.jar -l             list them
+ *   java -jar benchmarks/target/benchmarks.jar ZeroAllocation -prof gc
+ *                                                             bytes per search (gc.alloc.rate.norm, ~0)
+ */
+public class BenchmarkMain {
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        if (!jmhArgs.contains("-rf") && !jmhArgs.contains("-rff")) {
+            File dir = new File("jmh-results");
+            dir.mkdirs();
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            jmhArgs.addAll(Arrays.asList("-rf", "json", "-rff", new File(dir, "jmh-" + stamp + ".json").getPath()));
+        }
+        org.openjdk.jmh.Main.main(jmhArgs.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,51 @@
+package bench.jmh;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import main.FogLayer;
+
+/**
+ * The fog overlay (what GamePanel.drawFog used to draw, FogLayer now) into
+ * an offscreen 1200x780 image, with the hole following a player walking in
+ * a circle and the radius pulsing like it does in game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class FogDrawBenchmark {
+    private static final int WIDTH = 1200, HEIGHT = 780;
+
+    private FogLayer fog;
+    private BufferedImage frame;
+    private Graphics g;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fog = new FogLayer("src/assets/Images/fog.png");
+        frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g = frame.getGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage drawFog() {
+        double a = tick++ * 0.02;
+        int cx = WIDTH / 2 + (int) (Math.cos(a) * 300);
+        int cy = HEIGHT / 2 + (int) (Math.sin(a) * 200);
+        int radius = 150 + 60 + (int) (Math.sin(a * 2.5) * 20); // holding a soul
+        fog.draw(g, WIDTH, HEIGHT, cx, cy, radius);
+        return frame;
+    }
+}
@@ -0,0 +1,95 @@
+package bench.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import main.DStarLitePathfinder;
+import main.Maze;
+import main.Pathfinder;
+
+/**
+ * One ghost path search on the built-in maze, what Ghost.computePath used
+ * to do and the Pathfinder implementations do now. The start/goal pair is
+ * picked once per trial so the shortest path is about {@code pathTiles}
+ * long; both ends have the clearance ghosts need.
+ *
+ *   findPath    - a search from scratch; D* is reset before every call, or
+ *                 it would only be handing back the path it already has
+ *   playerStep  - the goal moves one tile and back on alternate calls, the
+ *                 way a chasing ghost replans; D* repairs its search, the
+ *                 others search from scratch as before
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PathSearchBenchmark {
+    private static final int GHOST_CLEARANCE = 3; // Ghost.SAFE_BUFFER
+
+    @Param({"bfs", "astar", "jps", "dstar"})
+    public String kind;
+
+    @Param({"10", "60", "200"})
+    public int pathTiles;
+
+    private Pathfinder pathfinder;
+    private DStarLitePathfinder dstar; // same object as pathfinder when kind is dstar
+    private int startRow, startCol, goalRow, goalCol;
+    private int stepRow, stepCol; // a tile next to the goal
+    private boolean stepped;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Maze maze = new Maze();
+        Pathfinder bfs = Pathfinder.create("bfs", maze);
+        Random rand = new Random(42);
+        int rows = maze.getRows(), cols = maze.getCols();
+        int best = -1;
+        for (int attempt = 0; attempt < 200_000 && best != pathTiles; attempt++) {
+            int sr = rand.nextInt(rows), sc = rand.nextInt(cols);
+            int gr = rand.nextInt(rows), gc = rand.nextInt(cols);
+            if (!maze.hasClearance(sr, sc, GHOST_CLEARANCE) || !maze.hasClearance(gr, gc, GHOST_CLEARANCE)) continue;
+            // cheap reject before searching: the path is at least the chessboard distance
+            if (Math.max(Math.abs(sr - gr), Math.abs(sc - gc)) > pathTiles) continue;
+            int length = bfs.findPath(sr, sc, gr, gc);
+            if (length == 0) continue;
+            if (best < 0 || Math.abs(length - pathTiles) < Math.abs(best - pathTiles)) {
+                best = length;
+                startRow = sr; startCol = sc; goalRow = gr; goalCol = gc;
+            }
+        }
+        if (best < 0) throw new IllegalStateException("no path of about " + pathTiles + " tiles");
+
+        stepRow = -1;
+        int[][] steps = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        for (int[] d : steps) {
+            int r = goalRow + d[0], c = goalCol + d[1];
+            if (maze.hasClearance(r, c, GHOST_CLEARANCE) && bfs.findPath(startRow, startCol, r, c) > 0) {
+                stepRow = r;
+                stepCol = c;
+                break;
+            }
+        }
+        if (stepRow < 0) throw new IllegalStateException("no open tile next to the goal");
+
+        pathfinder = Pathfinder.create(kind, maze);
+        dstar = pathfinder instanceof DStarLitePathfinder ? (DStarLitePathfinder) pathfinder : null;
+    }
+
+    @Benchmark
+    public int findPath() {
+        if (dstar != null) dstar.reset();
+        return pathfinder.findPath(startRow, startCol, goalRow, goalCol);
+    }
+
+    @Benchmark
+    public int playerStep() {
+        stepped = !stepped;
+        return stepped ? pathfinder.findPath(startRow, startCol, stepRow, stepCol)
+                       : pathfinder.findPath(startRow, startCol, goalRow, goalCol);
+    }
+}
@@ -0,0 +1,77 @@
+package bench.jmh;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import main.ScoreManager;
+
+/**
+ * ScoreManager against a scores file of {@code entries} lines in a temp
+ * directory. saveScore rewrites the whole file, so the file is put back to
+ * its starting size before every call. ScoreManager's console logging is
+ * switched off in the benchmark JVM.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ScoreFileBenchmark {
+    @Param({"10", "10000", "1000000"})
+    public int entries;
+
+    private Path dir, template, scores;
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("soulmaze-scores");
+        template = dir.resolve("template.txt");
+        scores = dir.resolve("scores.txt");
+        Random rand = new Random(42);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(template))) {
+            for (int i = 0; i < entries; i++) {
+                out.println("player" + i + ":" + rand.nextInt(100_000));
+            }
+        }
+        Files.copy(template, scores, StandardCopyOption.REPLACE_EXISTING);
+        ScoreManager.setScoresFile(scores.toString());
+
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreFile() throws IOException {
+        Files.copy(template, scores, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setOut(console);
+        Files.deleteIfExists(scores);
+        Files.deleteIfExists(template);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public void saveScore() {
+        ScoreManager.saveScore("bench", 12_345);
+    }
+
+    @Benchmark
+    public List<ScoreManager.PlayerScore> getTopScores() {
+        return ScoreManager.getTopScores(10);
+    }
+}
@@ -0,0 +1,55 @@
+package bench.jmh;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import main.Grave;
+import main.Maze;
+import main.Soul;
+
+/**
+ * Level setup and the respawn on a wrong-grave drop, on the built-in maze
+ * with the six graves of a late level. The maze's PlacementIndex is built
+ * in setup, like it is after the first level on that maze.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SpawnBenchmark {
+    private Maze maze;
+    private Random rand;
+    private List<Grave> graves;
+    private List<Soul> souls;
+    private Soul dropped;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new Maze();
+        rand = new Random(42);
+        graves = Grave.generateGraves(maze, 6, rand);
+        souls = Soul.generateSouls(maze, graves, rand);
+        dropped = souls.remove(0);
+    }
+
+    @Benchmark
+    public List<Grave> generateGraves() {
+        return Grave.generateGraves(maze, 6, rand);
+    }
+
+    @Benchmark
+    public List<Soul> generateSouls() {
+        return Soul.generateSouls(maze, graves, rand);
+    }
+
+    @Benchmark
+    public int respawn() {
+        Soul.respawn(dropped, maze, graves, souls, rand);
+        return dropped.getX();
+    }
+}
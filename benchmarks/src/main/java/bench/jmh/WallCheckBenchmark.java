@@ -0,0 +1,83 @@
+package bench.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import main.Maze;
+import main.Player;
+
+/**
+ * The wall tests the tick does most: Maze.isWall on random tiles, and a
+ * Player step, which runs Player.canMove (one overlapsWall on the hitbox
+ * plus its 2px gap) for every sub-step. "open" walks in the clear, "blocked"
+ * pushes into a wall so every step is refused.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class WallCheckBenchmark {
+    private static final int TILES = 1024;
+
+    private Maze maze;
+    private final int[] rows = new int[TILES], cols = new int[TILES];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new Maze();
+        Random rand = new Random(42);
+        for (int i = 0; i < TILES; i++) {
+            rows[i] = rand.nextInt(maze.getRows());
+            cols[i] = rand.nextInt(maze.getCols());
+        }
+    }
+
+    /** A player in the top-left room of its own maze, about to take one step. */
+    @State(Scope.Thread)
+    public static class Walker {
+        @Param({"open", "blocked"})
+        public String step;
+
+        private Player player;
+        private int startX, startY;
+        private boolean right, left;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // Open floor from x=10, the outer wall left of it
+            startX = 200;
+            startY = 12;
+            player = new Player(startX, startY, new Maze());
+            if (step.equals("blocked")) {
+                startX = 12; // 2px gap from the outer wall
+                left = true;
+            } else {
+                right = true;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TILES)
+    public int isWall() {
+        int walls = 0;
+        for (int i = 0; i < TILES; i++) {
+            if (maze.isWall(rows[i], cols[i])) walls++;
+        }
+        return walls;
+    }
+
+    @Benchmark
+    public int playerStep(Walker w) {
+        Player player = w.player;
+        player.x = w.startX;
+        player.y = w.startY;
+        player.setMoving(false, false, w.left, w.right);
+        player.update(0);
+        return player.x;
+    }
+}
@@ -0,0 +1,84 @@
+package bench.jmh;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import main.FlowField;
+import main.Maze;
+import main.PlacementIndex;
+import main.Pathfinder;
+
+/**
+ * Ghost searches must not allocate: BfsPathfinder and the FlowField
+ * rebuild run on reused SearchWorkspace buffers. Each call searches a new
+ * random pair of ghost-safe tiles (FlowField gets a new goal, so it really
+ * rebuilds).
+ *
+ * The check is built in: after the trial, 1000 more searches are counted
+ * with ThreadMXBean and the benchmark fails if they allocated anything. For
+ * JMH's own numbers add the GC profiler and look at gc.alloc.rate.norm
+ * (bytes/op, should be ~0):
+ *   java -jar benchmarks/target/benchmarks.jar ZeroAllocation -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ZeroAllocationSearchBenchmark {
+    private static final int PAIRS = 1024; // power of two
+    private static final int CHECKED_SEARCHES = 1000;
+    private static final int GHOST_CLEARANCE = 3; // Ghost.SAFE_BUFFER
+
+    @Param({"bfs", "flow"})
+    public String kind;
+
+    private Pathfinder pathfinder;
+    private FlowField field;
+    private final int[] starts = new int[PAIRS], goals = new int[PAIRS];
+    private int cols, next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Maze maze = new Maze();
+        cols = maze.getCols();
+        int[] safe = maze.getPlacementIndex().clearTiles(GHOST_CLEARANCE);
+        Random rand = new Random(3);
+        for (int i = 0; i < PAIRS; i++) {
+            starts[i] = PlacementIndex.pick(safe, rand);
+            goals[i] = PlacementIndex.pick(safe, rand);
+        }
+        if (kind.equals("flow")) field = new FlowField(maze);
+        else pathfinder = Pathfinder.create(kind, maze);
+    }
+
+    @Benchmark
+    public int search() {
+        int i = next++ & (PAIRS - 1);
+        int start = starts[i], goal = goals[i];
+        if (field != null) {
+            field.setGoal(goal / cols, goal % cols);
+            return field.nextStep(start / cols, start % cols);
+        }
+        return pathfinder.findPath(start / cols, start % cols, goal / cols, goal % cols);
+    }
+
+    @TearDown(Level.Trial)
+    public void checkNoAllocation() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        int sink = 0;
+        for (int i = 0; i < CHECKED_SEARCHES; i++) sink += search();
+        long bytes = threads.getThreadAllocatedBytes(thread) - before;
+        if (bytes > 0) {
+            throw new IllegalStateException(kind + ": " + CHECKED_SEARCHES + " searches allocated " + bytes
+                    + " bytes (sink " + sink + ")");
+        }
+    }
+}
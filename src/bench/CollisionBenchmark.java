@@ -0,0 +1,85 @@
+package bench;
+
+import java.util.Random;
+
+import main.Maze;
+
+/**
+ * Wall test for a moving hitbox: the old per-tile charAt scan with
+ * Math.floor divisions (Player.canMove / Ghost.isColliding before the
+ * TileGrid) against Maze.overlapsWall. Also checks both agree.
+ *
+ * Run: java -cp bin bench.CollisionBenchmark
+ */
+public class CollisionBenchmark {
+    private static final int QUERIES = 1_000_000;
+
+    public static void main(String[] args) {
+        Maze maze = new Maze();
+        int width = maze.getCols() * maze.tileSize;
+        int height = maze.getRows() * maze.tileSize;
+
+        for (int size : new int[] {24, 50, 80}) { // player + gap, ghost, bigger
+            Random rnd = new Random(size);
+            int[] xs = new int[QUERIES], ys = new int[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                xs[i] = rnd.nextInt(width + 40) - 20;
+                ys[i] = rnd.nextInt(height + 40) - 20;
+            }
+
+            int mismatches = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                if (legacyOverlaps(maze, xs[i], ys[i], size) != maze.overlapsWall(xs[i], ys[i], xs[i] + size - 1, ys[i] + size - 1)) {
+                    mismatches++;
+                }
+            }
+
+            double before = time(() -> {
+                int hits = 0;
+                for (int i = 0; i < QUERIES; i++) if (legacyOverlaps(maze, xs[i], ys[i], size)) hits++;
+                return hits;
+            });
+            double after = time(() -> {
+                int hits = 0;
+                for (int i = 0; i < QUERIES; i++) if (maze.overlapsWall(xs[i], ys[i], xs[i] + size - 1, ys[i] + size - 1)) hits++;
+                return hits;
+            });
+            System.out.printf("%3dpx box: charAt scan %6.1f ns   bitset %6.1f ns   %d mismatches%n",
+                    size, before / QUERIES, after / QUERIES, mismatches);
+        }
+    }
+
+    private interface Run { int run(); }
+
+    private static int sink;
+
+    private static double time(Run run) {
+        sink += run.run(); // warmup
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            sink += run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    // Ghost.isColliding before the TileGrid (Player.canMove did the same with its gap)
+    private static boolean legacyOverlaps(Maze maze, int x, int y, int size) {
+        int left = (int) Math.floor(x / (double) maze.tileSize);
+        int right = (int) Math.floor((x + size - 1) / (double) maze.tileSize);
+        int top = (int) Math.floor(y / (double) maze.tileSize);
+        int bottom = (int) Math.floor((y + size - 1) / (double) maze.tileSize);
+        for (int r = top; r <= bottom; r++) {
+            for (int c = left; c <= right; c++) {
+                if (legacyIsWall(maze.mazeData, r, c)) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean legacyIsWall(String[] data, int row, int col) {
+        if (row < 0 || col < 0 || row >= data.length || col >= data[row].length()) return true;
+        return data[row].charAt(col) == 'X';
+    }
+}
@@ -0,0 +1,93 @@
+package bench;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.RadialGradientPaint;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import javax.swing.ImageIcon;
+
+import main.FogLayer;
+
+/**
+ * Frame time and bytes allocated per frame for the fog overlay:
+ * the old per-frame BufferedImage version against FogLayer.
+ *
+ * Run headless: java -Djava.awt.headless=true -cp bin bench.FogBenchmark
+ */
+public class FogBenchmark {
+    private static final int W = 1200, H = 780;
+    private static final int WARMUP = 200;
+    private static final int FRAMES = 1000;
+    private static final String FOG_PATH = "src/assets/Images/fog.png";
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        BufferedImage frame = new BufferedImage(W, H, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = frame.createGraphics();
+
+        Image fogImage = new ImageIcon(FOG_PATH).getImage();
+        FogLayer fog = new FogLayer(FOG_PATH);
+
+        run("old drawFog", i -> legacyDrawFog(g, fogImage, cx(i), cy(i), radius(i)));
+        run("FogLayer   ", i -> fog.draw(g, W, H, cx(i), cy(i), radius(i)));
+        g.dispose();
+    }
+
+    private interface Frame { void draw(int i); }
+
+    private static void run(String name, Frame frame) {
+        for (int i = 0; i < WARMUP; i++) frame.draw(i);
+
+        long tid = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(tid);
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) frame.draw(i);
+        long nanos = System.nanoTime() - start;
+        long bytes = THREADS.getThreadAllocatedBytes(tid) - bytesBefore;
+
+        System.out.printf("%s: %8.1f us/frame, %10.0f bytes/frame, %7.1f MB/s at 60 fps%n",
+                name, nanos / 1000.0 / FRAMES, bytes / (double) FRAMES, bytes / (double) FRAMES * 60 / 1e6);
+    }
+
+    // Player wanders around, radius pulses like GamePanel.update()
+    private static int cx(int i) { return 600 + (int) (Math.sin(i * 0.013) * 400); }
+    private static int cy(int i) { return 390 + (int) (Math.cos(i * 0.017) * 250); }
+    private static int radius(int i) { return 185 + (int) (Math.sin(i * 0.05) * 45); }
+
+    /** GamePanel.drawFog before FogLayer, kept here for comparison. */
+    private static void legacyDrawFog(Graphics g, Image fogImage, int px, int py, int radius) {
+        BufferedImage fogLayer = new BufferedImage(W, H, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = fogLayer.createGraphics();
+        g2.setColor(new Color(0, 0, 0, 210));
+        g2.fillRect(0, 0, W, H);
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.drawImage(fogImage, 0, 0, W, H, null);
+
+        RadialGradientPaint gradient = new RadialGradientPaint(
+            new Point(px, py),
+            radius,
+            new float[]{0.1f, 0.8f, 1.0f},
+            new Color[]{
+                new Color(0f, 0f, 0f, 1f),
+                new Color(0f, 0f, 0f, 0.1f),
+                new Color(0f, 0f, 0f, 0f)
+            }
+        );
+        g2.setPaint(gradient);
+        g2.setComposite(AlphaComposite.DstOut);
+        g2.fillOval(px - radius, py - radius, radius * 2, radius * 2);
+        g2.setPaint(gradient);
+        g2.setComposite(AlphaComposite.DstOut);
+        g2.fillOval(px - radius, py - radius, radius * 2, radius * 2);
+        g2.dispose();
+
+        g.drawImage(fogLayer, 0, 0, null);
+    }
+}
@@ -0,0 +1,171 @@
+package bench;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import main.AudioManager;
+import main.GameClock;
+import main.GameWorld;
+import main.Jumpscare;
+import main.LevelManager;
+import main.LevelState;
+import main.Player;
+import main.PlayerInput;
+import main.RenderSnapshot;
+import main.Soul;
+import main.WorldRenderer;
+
+/**
+ * Full frames of a real level, drawn offscreen the way GamePanel draws
+ * them (WorldRenderer from a snapshot, then the jumpscare overlay) into a
+ * 1200x780 image, with the time of every layer and the bytes allocated per
+ * frame. The world ticks once per frame, the player walking a square and
+ * the ghosts chasing; if the scenario falls apart (the player dies, say)
+ * it is rebuilt from the same seed between frames.
+ *
+ * Scenarios, all with six graves and six souls:
+ *   1 / 2 / 3 ghosts   levels 6, 12 and 18
+ *   holding a soul     level 6, a soul picked up (bigger fog hole, held glow)
+ *   bleeding           level 6, hit once: red wash, and the skull jumpscare
+ *                      it sets off in game
+ *
+ * Prints p50/p95/p99 per layer in microseconds. "frame" is the whole
+ * paint, including the black clear before the first layer.
+ *
+ * Run headless: java -Djava.awt.headless=true -cp bin bench.FrameProfiler [frames]
+ */
+public class FrameProfiler {
+    private static final int W = 1200, H = 780;
+    private static final int WARMUP = 300;
+    private static final long SEED = 42;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final String[] ROWS;
+    static {
+        ROWS = Arrays.copyOf(WorldRenderer.LAYERS, WorldRenderer.LAYERS.length + 2);
+        ROWS[ROWS.length - 2] = "jumpscare";
+        ROWS[ROWS.length - 1] = "frame";
+    }
+
+    public static void main(String[] args) {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        BufferedImage image = new BufferedImage(W, H, BufferedImage.TYPE_INT_RGB);
+        Graphics g = image.getGraphics();
+        Jumpscare jumpscare = new Jumpscare(new AudioManager(), 3500);
+
+        new FrameProfiler("1 ghost", 6, false, false).run(g, jumpscare, WARMUP); // warm up the JIT and caches
+        System.out.printf("%d frames per scenario, %dx%d, %d Hz ticks%n", frames, W, H, GameClock.TICK_RATE);
+        new FrameProfiler("1 ghost", 6, false, false).print(g, jumpscare, frames);
+        new FrameProfiler("2 ghosts", 12, false, false).print(g, jumpscare, frames);
+        new FrameProfiler("3 ghosts", 18, false, false).print(g, jumpscare, frames);
+        new FrameProfiler("holding a soul", 6, true, false).print(g, jumpscare, frames);
+        new FrameProfiler("bleeding", 6, false, true).print(g, jumpscare, frames);
+        g.dispose();
+        jumpscare.dispose();
+    }
+
+    private final String name;
+    private final int level;
+    private final boolean holding, bleeding;
+    private final LevelManager levelManager = new LevelManager(SEED);
+    private final WorldRenderer renderer = new WorldRenderer();
+    private final RenderSnapshot snapshot = new RenderSnapshot();
+    private GameWorld world;
+    private int rebuilds = -1;
+    private double fogPulse;
+
+    private FrameProfiler(String name, int level, boolean holding, boolean bleeding) {
+        this.name = name;
+        this.level = level;
+        this.holding = holding;
+        this.bleeding = bleeding;
+    }
+
+    private void print(Graphics g, Jumpscare jumpscare, int frames) {
+        long[][] nanos = run(g, jumpscare, frames);
+        long[] bytes = nanos[nanos.length - 1];
+
+        System.out.printf("%n=== %s: level %d, %d ghost(s), %d rebuild(s) ===%n",
+                name, level, world.getGhosts().size(), rebuilds);
+        System.out.println("layer          p50 us    p95 us    p99 us");
+        for (int i = 0; i < ROWS.length; i++) {
+            long[] t = nanos[i];
+            Arrays.sort(t);
+            System.out.printf("%-10s %9.1f %9.1f %9.1f%n", ROWS[i], pct(t, 50), pct(t, 95), pct(t, 99));
+        }
+        Arrays.sort(bytes);
+        System.out.printf("allocated  %d bytes/frame p50, %d p99, %d max (the first frame bakes the maze and fog)%n",
+                bytes[bytes.length / 2], bytes[Math.min(bytes.length - 1, bytes.length * 99 / 100)], bytes[bytes.length - 1]);
+    }
+
+    /** Renders {@code frames} frames; per-layer nanos (ROWS order), then bytes allocated, per frame. */
+    private long[][] run(Graphics g, Jumpscare jumpscare, int frames) {
+        long[][] out = new long[ROWS.length + 1][frames];
+        long[] layers = new long[WorldRenderer.LAYERS.length];
+        renderer.setLayerTimes(layers);
+        long thread = Thread.currentThread().getId();
+        int[] walk = {PlayerInput.RIGHT, PlayerInput.DOWN, PlayerInput.LEFT, PlayerInput.UP};
+
+        for (int f = 0; f < frames; f++) {
+            if (world == null || !inScenario()) build();
+            world.tick(walk[f / 90 % 4]);
+            if (!inScenario()) build();
+            if (bleeding && !jumpscare.isActive()) jumpscare.trigger("skull");
+            snapshot.capture(world, fogRadius(), levelManager.getLevelDescription(), levelManager.getScore(), false);
+
+            long alloc = THREADS.getThreadAllocatedBytes(thread);
+            long t0 = System.nanoTime();
+            renderer.render(g, snapshot, 0.5, W, H);
+            long t1 = System.nanoTime();
+            jumpscare.draw(g, W, H);
+            long t2 = System.nanoTime();
+            out[ROWS.length][f] = THREADS.getThreadAllocatedBytes(thread) - alloc;
+
+            for (int i = 0; i < layers.length; i++) out[i][f] = layers[i];
+            out[ROWS.length - 2][f] = t2 - t1;
+            out[ROWS.length - 1][f] = t2 - t0;
+        }
+        if (!bleeding && jumpscare.isActive()) jumpscare.end();
+        renderer.setLayerTimes(null);
+        return out;
+    }
+
+    private boolean inScenario() {
+        Player player = world.getPlayer();
+        return !world.isFinished()
+                && (!holding || player.getHeldSoul() != null)
+                && (!bleeding || player.isBleeding());
+    }
+
+    // Same level and world seed every time, so a rebuild restarts the same scenario
+    private void build() {
+        rebuilds++;
+        world = new GameWorld(LevelState.build(levelManager, level, SEED), levelManager, null);
+        Player player = world.getPlayer();
+        if (holding) {
+            Soul soul = world.getSouls().get(0);
+            player.x = soul.getX();
+            player.y = soul.getY();
+            world.tick(PlayerInput.ACTION);
+            if (player.getHeldSoul() == null) throw new IllegalStateException("couldn't pick up a soul");
+        }
+        if (bleeding) {
+            player.collideWithGhost(world.getTimeMillis());
+        }
+    }
+
+    // GamePanel's fog pulse, without the easing
+    private int fogRadius() {
+        fogPulse += GameClock.perTick(0.05);
+        return world.getPlayer().getHeldSoul() != null ? 150 + 60 + (int) (Math.sin(fogPulse) * 20)
+                                                       : 150 + (int) (Math.sin(fogPulse) * 10);
+    }
+
+    private static double pct(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1e3;
+    }
+}
@@ -0,0 +1,195 @@
+package bench;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+import main.FlowField;
+import main.Maze;
+
+/**
+ * Navigation cost per tick against ghost count: one BFS per ghost every time
+ * the player changes tile (the old Ghost.computePath) against one shared
+ * FlowField rebuild plus an O(1) lookup per ghost.
+ *
+ * The player random-walks over open tiles and changes tile every other tick,
+ * which is about what a 4px/tick player does on 10px tiles.
+ *
+ * Run: java -cp bin bench.GhostNavigationBenchmark
+ */
+public class GhostNavigationBenchmark {
+    private static final int TICKS = 2000;
+    private static final int[] GHOST_COUNTS = {1, 3, 10, 30, 100};
+
+    public static void main(String[] args) {
+        Maze maze = new Maze();
+        int[] playerWalk = randomWalk(maze, TICKS, new Random(7));
+
+        System.out.println("ghosts | per-ghost BFS us/tick | flow field us/tick");
+        for (int ghosts : GHOST_COUNTS) {
+            int[] ghostTiles = randomOpenTiles(maze, ghosts, new Random(11));
+            LegacyBfs legacy = new LegacyBfs(maze);
+
+            double before = time(() -> {
+                for (int t = 0; t < TICKS; t++) {
+                    if (t > 0 && playerWalk[t] == playerWalk[t - 1]) continue; // only re-path on tile change
+                    int goal = playerWalk[t];
+                    for (int g : ghostTiles) {
+                        legacy.computePath(g / maze.getCols(), g % maze.getCols(), goal / maze.getCols(), goal % maze.getCols());
+                    }
+                }
+            });
+
+            double after = time(() -> {
+                FlowField field = new FlowField(maze);
+                for (int t = 0; t < TICKS; t++) {
+                    int goal = playerWalk[t];
+                    field.setGoal(goal / maze.getCols(), goal % maze.getCols());
+                    for (int g : ghostTiles) {
+                        field.nextStep(g / maze.getCols(), g % maze.getCols());
+                    }
+                }
+            });
+
+            System.out.printf("%6d | %21.1f | %18.1f%n", ghosts, before / TICKS, after / TICKS);
+        }
+    }
+
+    /** Best of three runs, in microseconds. */
+    private static double time(Runnable run) {
+        run.run(); // warmup
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1000.0);
+        }
+        return best;
+    }
+
+    /** Player tile per tick; moves to a random open neighbour every other tick. */
+    static int[] randomWalk(Maze maze, int ticks, Random rnd) {
+        int cols = maze.getCols();
+        int[] walk = new int[ticks];
+        int cur = randomOpenTiles(maze, 1, rnd)[0];
+        int[][] dirs = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        for (int t = 0; t < ticks; t++) {
+            if (t % 2 == 1) {
+                for (int tries = 0; tries < 8; tries++) {
+                    int[] d = dirs[rnd.nextInt(4)];
+                    int r = cur / cols + d[0], c = cur % cols + d[1];
+                    if (!maze.isWall(r, c) && safe(maze, r, c)) {
+                        cur = r * cols + c;
+                        break;
+                    }
+                }
+            }
+            walk[t] = cur;
+        }
+        return walk;
+    }
+
+    static int[] randomOpenTiles(Maze maze, int count, Random rnd) {
+        int[] tiles = new int[count];
+        for (int i = 0; i < count; i++) {
+            int r, c;
+            do {
+                r = rnd.nextInt(maze.getRows());
+                c = rnd.nextInt(maze.getCols());
+            } while (!safe(maze, r, c));
+            tiles[i] = r * maze.getCols() + c;
+        }
+        return tiles;
+    }
+
+    private static boolean safe(Maze maze, int r, int c) {
+        for (int dr = -3; dr <= 3; dr++)
+            for (int dc = -3; dc <= 3; dc++)
+                if (maze.isWall(r + dr, c + dc)) return false;
+        return true;
+    }
+
+    /** Ghost.computePath before FlowField, kept here for comparison. */
+    static class LegacyBfs {
+        private final Maze maze;
+        int[] pathRow, pathCol;
+
+        LegacyBfs(Maze maze) { this.maze = maze; }
+
+        void computePath(int startRow, int startCol, int goalRow, int goalCol) {
+            int rows = maze.getRows();
+            int cols = maze.getCols();
+
+            boolean[][] visited = new boolean[rows][cols];
+            int[][] prevR = new int[rows][cols];
+            int[][] prevC = new int[rows][cols];
+            for (int r = 0; r < rows; r++) {
+                Arrays.fill(prevR[r], -1);
+                Arrays.fill(prevC[r], -1);
+            }
+
+            Queue<int[]> q = new ArrayDeque<>();
+            q.add(new int[]{startRow, startCol});
+            visited[startRow][startCol] = true;
+
+            int[] dr = {-1, 1, 0, 0};
+            int[] dc = {0, 0, -1, 1};
+            boolean found = false;
+
+            while (!q.isEmpty()) {
+                int[] cur = q.poll();
+                int r = cur[0], c = cur[1];
+                if (r == goalRow && c == goalCol) {
+                    found = true;
+                    break;
+                }
+                for (int i = 0; i < 4; i++) {
+                    int nr = r + dr[i];
+                    int nc = c + dc[i];
+                    if (nr < 0 || nc < 0 || nr >= rows || nc >= cols) continue;
+                    if (visited[nr][nc] || !isSafeTile(nr, nc)) continue;
+                    visited[nr][nc] = true;
+                    prevR[nr][nc] = r;
+                    prevC[nr][nc] = c;
+                    q.add(new int[]{nr, nc});
+                }
+            }
+
+            if (!found) {
+                pathRow = pathCol = null;
+                return;
+            }
+
+            List<Integer> pr = new ArrayList<>();
+            List<Integer> pc = new ArrayList<>();
+            int r = goalRow, c = goalCol;
+            while (r != -1 && c != -1) {
+                pr.add(r);
+                pc.add(c);
+                int tr = prevR[r][c];
+                int tc = prevC[r][c];
+                r = tr;
+                c = tc;
+            }
+            java.util.Collections.reverse(pr);
+            java.util.Collections.reverse(pc);
+            pathRow = pr.stream().mapToInt(i -> i).toArray();
+            pathCol = pc.stream().mapToInt(i -> i).toArray();
+        }
+
+        private boolean isSafeTile(int r, int c) {
+            if (maze.isWallTile(r, c)) return false;
+            for (int dr = -3; dr <= 3; dr++) {
+                for (int dc = -3; dc <= 3; dc++) {
+                    int rr = r + dr, cc = c + dc;
+                    if (rr < 0 || cc < 0 || rr >= maze.getRows() || cc >= maze.getCols()) continue;
+                    if (maze.isWallTile(rr, cc)) return false;
+                }
+            }
+            return true;
+        }
+    }
+}
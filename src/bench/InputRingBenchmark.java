@@ -0,0 +1,93 @@
+package bench;
+
+import java.awt.event.KeyEvent;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import main.GameClock;
+import main.InputRing;
+import main.PlayerInput;
+
+/**
+ * InputRing against the old input path (a volatile mask of held keys that
+ * the tick reads). A "key thread" plays the EDT and taps Right: held 1-12 ms,
+ * then 40-80 ms until the next tap. The main thread ticks at
+ * GameClock.TICK_RATE and counts the taps each path shows the world, plus
+ * how long a key event waits before a tick applies it. Taps shorter than a
+ * tick can fall between two reads of the mask and vanish; the ring keeps
+ * them. Also measures what an event costs to offer and drain.
+ *
+ * Run: java -cp bin bench.InputRingBenchmark [seconds]
+ */
+public class InputRingBenchmark {
+    private static volatile boolean stop;
+    private static volatile int heldKeys; // the old path
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        throughput();
+
+        InputRing ring = new InputRing();
+        long[] taps = new long[1];
+        Thread keys = new Thread(() -> {
+            ThreadLocalRandom r = ThreadLocalRandom.current();
+            while (!stop) {
+                heldKeys |= PlayerInput.RIGHT;
+                ring.keyPressed(KeyEvent.VK_RIGHT);
+                taps[0]++;
+                GameClock.sleepUntil(System.nanoTime() + r.nextLong(1_000_000, 12_000_000));
+                heldKeys &= ~PlayerInput.RIGHT;
+                ring.keyReleased(KeyEvent.VK_RIGHT);
+                GameClock.sleepUntil(System.nanoTime() + r.nextLong(40_000_000, 80_000_000));
+            }
+        }, "keys");
+
+        long[] waits = new long[seconds * GameClock.TICK_RATE];
+        int waitCount = 0;
+        long maskTaps = 0, ringTaps = 0;
+        int lastMask = 0, lastRing = 0;
+        keys.start();
+        long next = System.nanoTime();
+        long end = next + seconds * 1_000_000_000L;
+        while (next < end) {
+            GameClock.sleepUntil(next);
+            long now = System.nanoTime();
+            int mask = heldKeys & PlayerInput.RIGHT;
+            int fromRing = ring.nextTickInput() & PlayerInput.RIGHT;
+            if (mask != 0 && lastMask == 0) maskTaps++;
+            if (fromRing != 0 && lastRing == 0) ringTaps++;
+            lastMask = mask;
+            lastRing = fromRing;
+            if (ring.getOldestDrained() != 0 && waitCount < waits.length) {
+                waits[waitCount++] = now - ring.getOldestDrained();
+            }
+            next += GameClock.TICK_NANOS;
+        }
+        stop = true;
+        keys.join();
+
+        Arrays.sort(waits, 0, waitCount);
+        System.out.printf("taps sent         %d over %d s at %d Hz%n", taps[0], seconds, GameClock.TICK_RATE);
+        System.out.printf("volatile mask     %d seen, %d lost%n", maskTaps, taps[0] - maskTaps);
+        System.out.printf("input ring        %d seen, %d lost, %d dropped%n", ringTaps, taps[0] - ringTaps, ring.getDropped());
+        System.out.printf("event -> tick     p50 %.1f ms, p95 %.1f ms, max %.1f ms%n",
+                waits[waitCount / 2] / 1e6, waits[waitCount * 95 / 100] / 1e6, waits[waitCount - 1] / 1e6);
+    }
+
+    // One thread offering and draining in batches, like a burst of keys before a tick
+    private static void throughput() {
+        InputRing ring = new InputRing();
+        int batch = 8, rounds = 5_000_000;
+        for (int warm = 0; warm < 2; warm++) {
+            long t0 = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                for (int k = 0; k < batch; k++) ring.offer(PlayerInput.RIGHT | (k & 1) << 8, t0);
+                ring.nextTickInput();
+            }
+            long t1 = System.nanoTime();
+            if (warm == 1) {
+                System.out.printf("offer + drain     %.1f ns/event%n", (t1 - t0) / (double) rounds / batch);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package bench;
+
+import java.nio.file.*;
+import java.util.*;
+
+import main.LevelData;
+import main.LevelPack;
+
+/**
+ * Open time of a memory-mapped LevelPack as it grows, decode time of one
+ * level, and the text parser for comparison. Also checks the classic level
+ * survives text -> pack -> decode unchanged.
+ *
+ * Run: java -cp bin bench.LevelPackBenchmark
+ */
+public class LevelPackBenchmark {
+    private static final int[] PACK_SIZES = {1, 1000, 20000};
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("levelpack");
+        LevelData classic = LevelData.classic();
+
+        // Round trip
+        Path text = dir.resolve("classic.txt");
+        classic.writeText(text);
+        LevelData fromText = LevelData.readText(text);
+        Path single = dir.resolve("single.smpack");
+        LevelPack.write(single, Collections.singletonList(fromText), new int[] {0});
+        try (LevelPack pack = LevelPack.open(single)) {
+            LevelData back = pack.get(0);
+            boolean same = Arrays.equals(back.getGrid(), classic.getGrid())
+                    && back.getGraveZones().equals(classic.getGraveZones())
+                    && back.getGhostSpawns().equals(classic.getGhostSpawns())
+                    && Objects.equals(back.getPlayerSpawn(), classic.getPlayerSpawn());
+            System.out.printf("round trip %s, text %d bytes, pack %d bytes%n",
+                    same ? "ok" : "MISMATCH", Files.size(text), Files.size(single));
+        }
+
+        // Text parse cost for comparison
+        List<String> lines = Files.readAllLines(text);
+        for (int i = 0; i < 200; i++) LevelData.parseText(lines, "warmup");
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) LevelData.parseText(lines, "classic");
+        System.out.printf("text parse             %8.1f us/level%n", (System.nanoTime() - start) / 1000.0 / 1000);
+
+        for (int size : PACK_SIZES) {
+            Path file = dir.resolve("pack" + size + ".smpack");
+            LevelPack.write(file, Collections.nCopies(size, classic), new int[] {size - 1});
+
+            for (int i = 0; i < 50; i++) { // warmup
+                try (LevelPack pack = LevelPack.open(file)) { pack.get(i % size); }
+            }
+            long openNanos = 0, getNanos = 0;
+            int runs = 200;
+            for (int i = 0; i < runs; i++) {
+                long t0 = System.nanoTime();
+                try (LevelPack pack = LevelPack.open(file)) {
+                    long t1 = System.nanoTime();
+                    pack.get(pack.entryForLevel(1));
+                    getNanos += System.nanoTime() - t1;
+                    openNanos += t1 - t0;
+                }
+            }
+            System.out.printf("pack of %6d (%9d bytes): open %6.1f us, decode last level %6.1f us%n",
+                    size, Files.size(file), openNanos / 1000.0 / runs, getNanos / 1000.0 / runs);
+            Files.delete(file);
+        }
+        Files.delete(text);
+        Files.delete(single);
+        Files.delete(dir);
+    }
+}
@@ -0,0 +1,47 @@
+package bench;
+
+import main.GamePanel;
+import main.LevelManager;
+import main.LevelState;
+
+/**
+ * What a level change costs on the critical path. Before: a whole new
+ * GamePanel (audio clips re-read, jumpscare images decoded, maze rebuilt,
+ * new thread). After: a LevelState built in the background during the
+ * transition; the panel only swaps it in.
+ *
+ * Needs no display: run with -Djava.awt.headless=true -Dsoulmaze.renderer=swing
+ * Run: java -Djava.awt.headless=true -Dsoulmaze.renderer=swing -cp bin bench.LevelTransitionBenchmark
+ */
+public class LevelTransitionBenchmark {
+    private static final int ROUNDS = 8;
+
+    public static void main(String[] args) {
+        LevelManager levels = new LevelManager();
+
+        long[] panel = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            GamePanel p = new GamePanel(levels, "bench");
+            panel[i] = System.nanoTime() - start;
+            p.shutdown();
+        }
+
+        long[] state = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            LevelState.build(levels, 2 + i % 12);
+            state[i] = System.nanoTime() - start;
+        }
+
+        print("new GamePanel", panel);
+        print("LevelState.build", state);
+        System.exit(0); // audio threads
+    }
+
+    private static void print(String label, long[] nanos) {
+        StringBuilder sb = new StringBuilder(String.format("%-18s", label));
+        for (long n : nanos) sb.append(String.format(" %7.1f", n / 1e6));
+        System.out.println(sb.append(" ms"));
+    }
+}
@@ -0,0 +1,38 @@
+package bench;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import main.Maze;
+
+/**
+ * Per-frame cost of drawing the maze: the old tile-by-tile path
+ * (Maze.drawLayer) against the cached static layer (Maze.draw).
+ *
+ * Run headless: java -Djava.awt.headless=true -cp bin bench.MazeDrawBenchmark
+ */
+public class MazeDrawBenchmark {
+    private static final int WARMUP = 200;
+    private static final int FRAMES = 1000;
+
+    public static void main(String[] args) {
+        Maze maze = new Maze();
+        BufferedImage frame = new BufferedImage(1200, 780, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = frame.createGraphics();
+
+        double direct = time(() -> maze.drawLayer(g));
+        double cached = time(() -> maze.draw(g));
+        g.dispose();
+
+        System.out.printf("maze per frame: tile-by-tile %.1f us, cached layer %.1f us (%.1fx)%n",
+                direct, cached, direct / cached);
+    }
+
+    /** Mean microseconds per call after warmup. */
+    private static double time(Runnable frame) {
+        for (int i = 0; i < WARMUP; i++) frame.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) frame.run();
+        return (System.nanoTime() - start) / 1000.0 / FRAMES;
+    }
+}
@@ -0,0 +1,89 @@
+package bench;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import main.LevelData;
+import main.LevelManager;
+import main.Maze;
+import main.MazeGenerator;
+import main.PreparedLevel;
+
+/**
+ * Generation time per level and a sanity sweep over many seeds: every level
+ * must be reproducible from its seed, fully connected, fit the player at its
+ * spawn, give each ghost spawn and the player spawn ghost clearance, and
+ * have room for six graves.
+ *
+ * Run: java -cp bin bench.MazeGeneratorBenchmark
+ */
+public class MazeGeneratorBenchmark {
+    private static final int SEEDS = 2000;
+
+    public static void main(String[] args) {
+        int bad = 0;
+        for (long seed = 0; seed < SEEDS; seed++) {
+            String problem = check(seed);
+            if (problem != null) {
+                bad++;
+                if (bad <= 10) System.out.println("seed " + seed + ": " + problem);
+            }
+        }
+        System.out.println(SEEDS + " seeds checked, " + bad + " bad");
+
+        for (long seed = 0; seed < 500; seed++) MazeGenerator.generate(seed); // warmup
+        long start = System.nanoTime();
+        for (long seed = 0; seed < SEEDS; seed++) MazeGenerator.generate(seed);
+        System.out.printf("generate:            %7.1f us/level%n", (System.nanoTime() - start) / 1000.0 / SEEDS);
+
+        LevelManager levels = new LevelManager();
+        long prepared = 0;
+        for (int i = 0; i < 200; i++) {
+            PreparedLevel p = levels.prepareLevel(2 + i % 17);
+            prepared += p.getPrepareNanos();
+        }
+        System.out.printf("prepare (cache/gen): %7.1f us/level%n", prepared / 1000.0 / 200);
+    }
+
+    private static String check(long seed) {
+        LevelData a = MazeGenerator.generate(seed);
+        if (!Arrays.equals(a.getGrid(), MazeGenerator.generate(seed).getGrid())) return "not reproducible";
+
+        Maze maze = new Maze(a.getGrid());
+        int px = a.getPlayerSpawn().x * maze.tileSize, py = a.getPlayerSpawn().y * maze.tileSize;
+        if (maze.overlapsWall(px - 2, py - 2, px + 61, py + 61)) return "player doesn't fit at spawn";
+        if (!maze.hasClearance(a.getPlayerSpawn().y + 3, a.getPlayerSpawn().x + 3, 3)) return "ghosts can't path to player spawn";
+        for (java.awt.Point g : a.getGhostSpawns()) {
+            if (maze.overlapsWall(g.x * maze.tileSize, g.y * maze.tileSize, g.x * maze.tileSize + 49, g.y * maze.tileSize + 49)) return "ghost doesn't fit";
+            if (!maze.hasClearance(g.y + 2, g.x + 2, 3)) return "ghost spawn has no clearance";
+            maze.getFlowField().setGoal(a.getPlayerSpawn().y + 3, a.getPlayerSpawn().x + 3);
+            if (maze.getFlowField().distance(g.y + 2, g.x + 2) < 0) return "ghost can't reach the player";
+        }
+        int graveTiles = 0;
+        for (java.awt.Rectangle z : a.getGraveZones()) graveTiles += z.width * z.height;
+        if (graveTiles < 6 * 9) return "not enough grave tiles";
+
+        // every open tile reachable from the player
+        int rows = maze.getRows(), cols = maze.getCols();
+        boolean[] seen = new boolean[rows * cols];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int startTile = a.getPlayerSpawn().y * cols + a.getPlayerSpawn().x;
+        seen[startTile] = true;
+        queue.add(startTile);
+        int reached = 1, open = 0;
+        for (int r = 0; r < rows; r++) for (int c = 0; c < cols; c++) if (!maze.isWall(r, c)) open++;
+        while (!queue.isEmpty()) {
+            int t = queue.poll();
+            int r = t / cols, c = t % cols;
+            int[][] dirs = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+            for (int[] d : dirs) {
+                int nr = r + d[0], nc = c + d[1];
+                if (maze.isWall(nr, nc) || seen[nr * cols + nc]) continue;
+                seen[nr * cols + nc] = true;
+                reached++;
+                queue.add(nr * cols + nc);
+            }
+        }
+        return reached == open ? null : (open - reached) + " open tiles unreachable";
+    }
+}
@@ -0,0 +1,68 @@
+package bench;
+
+import java.util.Random;
+
+import main.AStarPathfinder;
+import main.BfsPathfinder;
+import main.JumpPointPathfinder;
+import main.Maze;
+import main.Pathfinder;
+
+/**
+ * Nodes expanded and time per query for each Pathfinder on the game maze,
+ * over the same random start/goal pairs. Also checks every path is valid and
+ * as short as the BFS one.
+ *
+ * Run: java -cp bin bench.PathfinderBenchmark
+ */
+public class PathfinderBenchmark {
+    private static final int QUERIES = 5000;
+
+    public static void main(String[] args) {
+        Maze maze = new Maze();
+        int cols = maze.getCols();
+        int[] starts = GhostNavigationBenchmark.randomOpenTiles(maze, QUERIES, new Random(3));
+        int[] goals = GhostNavigationBenchmark.randomOpenTiles(maze, QUERIES, new Random(5));
+
+        Pathfinder[] finders = { new BfsPathfinder(maze), new AStarPathfinder(maze), new JumpPointPathfinder(maze) };
+
+        // Reference lengths from BFS
+        int[] expected = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            expected[i] = finders[0].findPath(starts[i] / cols, starts[i] % cols, goals[i] / cols, goals[i] % cols);
+        }
+
+        for (Pathfinder finder : finders) {
+            int bad = 0;
+            long expandedTotal = 0;
+            for (int i = 0; i < QUERIES; i++) {
+                int len = finder.findPath(starts[i] / cols, starts[i] % cols, goals[i] / cols, goals[i] % cols);
+                expandedTotal += finder.getNodesExpanded();
+                if (len != expected[i] || !isValid(maze, finder.getPath(), len, starts[i], goals[i])) bad++;
+            }
+            for (int i = 0; i < QUERIES; i++) { // warmup
+                finder.findPath(starts[i] / cols, starts[i] % cols, goals[i] / cols, goals[i] % cols);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                finder.findPath(starts[i] / cols, starts[i] % cols, goals[i] / cols, goals[i] % cols);
+            }
+            long nanos = System.nanoTime() - start;
+
+            System.out.printf("%-6s %8.1f us/query %10.1f nodes expanded/query   %d wrong paths%n",
+                    finder.getName(), nanos / 1000.0 / QUERIES, expandedTotal / (double) QUERIES, bad);
+        }
+    }
+
+    private static boolean isValid(Maze maze, int[] path, int len, int start, int goal) {
+        int cols = maze.getCols();
+        if (len == 0) return true;
+        if (path[0] != start || path[len - 1] != goal) return false;
+        for (int i = 1; i < len; i++) {
+            int a = path[i - 1], b = path[i];
+            int dist = Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+            if (dist != 1 || !maze.hasClearance(b / cols, b % cols, 3)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,165 @@
+package bench;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import main.Grave;
+import main.Maze;
+import main.PlacementIndex;
+import main.Soul;
+
+/**
+ * Spawning through PlacementIndex against the old full-grid scans, on the
+ * built-in maze with the six graves of a late level:
+ *   respawn   - a soul dropped on the wrong grave (old: every FLOOR tile into
+ *               a new ArrayList, shuffle, take the first)
+ *   souls     - generateSouls for six graves (old: shuffled FLOOR tiles, each
+ *               tested against every soul and grave Rectangle)
+ *   central   - the jumpscare spot (old: up to 1000 rejection samples)
+ * The first call on a maze also builds the candidate arrays; that's timed
+ * separately. Every placement is checked for walls under the soul and
+ * overlaps with graves and the other souls.
+ *
+ * Run: java -cp bin bench.PlacementBenchmark
+ */
+public class PlacementBenchmark {
+    private static final int ROUNDS = 20_000;
+
+    public static void main(String[] args) {
+        Random rand = new Random(1);
+        Soul.generateSouls(new Maze(), Grave.generateGraves(new Maze(), 6, rand), rand); // loads the sprites
+
+        Maze maze = new Maze();
+        long t0 = System.nanoTime();
+        List<Grave> graves = Grave.generateGraves(maze, 6, rand);
+        List<Soul> souls = Soul.generateSouls(maze, graves, rand);
+        maze.getPlacementIndex().clearTiles(1);
+        System.out.printf("graves + souls + jumpscare tiles on a fresh maze (builds the index): %.2f ms, %d graves, %d souls%n",
+                (System.nanoTime() - t0) / 1e6, graves.size(), souls.size());
+
+        long sink = 0;
+        int bad = 0;
+        System.out.println("             old us/op   index us/op   speedup");
+        for (int round = 0; round < 3; round++) { // rounds 0-1 are warmup
+            Soul soul = souls.remove(0);
+            long a = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) sink += oldRespawn(maze, rand).x;
+            long b = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                Soul.respawn(soul, maze, graves, souls, rand);
+                sink += soul.getX();
+                if (!valid(maze, soul, graves, souls)) bad++;
+            }
+            long c = System.nanoTime();
+            souls.add(soul);
+            if (round == 2) print("respawn", b - a, c - b, ROUNDS);
+
+            int soulRounds = ROUNDS / 10;
+            a = System.nanoTime();
+            for (int i = 0; i < soulRounds; i++) sink += oldGenerateSouls(maze, graves, rand).size();
+            b = System.nanoTime();
+            for (int i = 0; i < soulRounds; i++) {
+                List<Soul> placed = Soul.generateSouls(maze, graves, rand);
+                sink += placed.size();
+                for (Soul s : placed) {
+                    List<Soul> others = new ArrayList<>(placed);
+                    others.remove(s);
+                    if (!valid(maze, s, graves, others)) bad++;
+                }
+            }
+            c = System.nanoTime();
+            if (round == 2) print("souls", b - a, c - b, soulRounds);
+
+            a = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) sink += oldCentral(maze, rand).x;
+            b = System.nanoTime();
+            PlacementIndex index = maze.getPlacementIndex();
+            for (int i = 0; i < ROUNDS; i++) {
+                int tile = PlacementIndex.pick(index.clearTiles(1), rand);
+                if (!maze.hasClearance(index.rowOf(tile), index.colOf(tile), 1)) bad++;
+                sink += tile;
+            }
+            c = System.nanoTime();
+            if (round == 2) print("central", b - a, c - b, ROUNDS);
+        }
+        System.out.println("invalid placements: " + bad + " (sink " + (sink & 1) + ")");
+    }
+
+    private static void print(String name, long oldNanos, long newNanos, int ops) {
+        System.out.printf("%-10s %12.2f %13.2f %8.0fx%n", name, oldNanos / 1e3 / ops, newNanos / 1e3 / ops,
+                oldNanos / (double) newNanos);
+    }
+
+    // No wall under the soul (plus the extra tile the game has always kept), no overlap with anything
+    private static boolean valid(Maze maze, Soul s, List<Grave> graves, List<Soul> others) {
+        int row = s.getY() / maze.tileSize, col = s.getX() / maze.tileSize, span = 50 / maze.tileSize;
+        if (maze.isWallInTiles(row, col, row + span, col + span)) return false;
+        for (Grave g : graves) if (g.getBounds().intersects(s.getBounds())) return false;
+        for (Soul o : others) if (o.getBounds().intersects(s.getBounds())) return false;
+        return true;
+    }
+
+    // === The old code, as it was ===
+    private static Point oldRespawn(Maze maze, Random rand) {
+        List<Point> empty = new ArrayList<>();
+        for (int r = 0; r < maze.getRows(); r++) {
+            for (int c = 0; c < maze.getCols(); c++) {
+                if (maze.getTile(r, c) == Maze.FLOOR) empty.add(new Point(c * maze.tileSize, r * maze.tileSize));
+            }
+        }
+        Collections.shuffle(empty, rand);
+        for (Point p : empty) {
+            if (!maze.isWall(p.y / maze.tileSize, p.x / maze.tileSize)) return p;
+        }
+        return empty.get(0);
+    }
+
+    private static List<Rectangle> oldGenerateSouls(Maze maze, List<Grave> graves, Random rand) {
+        List<Point> emptyTiles = new ArrayList<>();
+        List<Rectangle> souls = new ArrayList<>();
+        for (int r = 0; r < maze.getRows(); r++) {
+            for (int c = 0; c < maze.getCols(); c++) {
+                if (maze.getTile(r, c) == Maze.FLOOR) emptyTiles.add(new Point(c * maze.tileSize, r * maze.tileSize));
+            }
+        }
+        Collections.shuffle(emptyTiles, rand);
+        for (Grave grave : graves) {
+            for (int i = 0; i < emptyTiles.size(); i++) {
+                Point p = emptyTiles.get(i);
+                Rectangle rect = new Rectangle(p.x, p.y, 50, 50);
+                boolean overlap = false;
+                for (Rectangle s : souls) {
+                    if (s.intersects(rect)) { overlap = true; break; }
+                }
+                if (!overlap) {
+                    for (Grave g : graves) {
+                        if (g.getBounds().intersects(rect)) { overlap = true; break; }
+                    }
+                }
+                int col = p.x / maze.tileSize, row = p.y / maze.tileSize, span = 50 / maze.tileSize;
+                if (!overlap && !maze.isWallInTiles(row, col, row + span, col + span)) {
+                    souls.add(rect);
+                    emptyTiles.remove(i);
+                    break;
+                }
+            }
+        }
+        return souls;
+    }
+
+    private static Point oldCentral(Maze maze, Random rand) {
+        for (int attempts = 0; attempts < 1000; attempts++) {
+            int row, col;
+            do {
+                row = rand.nextInt(maze.getRows());
+                col = rand.nextInt(maze.getCols());
+            } while (maze.isWall(row, col));
+            if (maze.hasClearance(row, col, 1)) return new Point(col, row);
+        }
+        return new Point(0, 0);
+    }
+}
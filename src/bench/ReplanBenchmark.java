@@ -0,0 +1,72 @@
+package bench;
+
+import java.util.Random;
+
+import main.BfsPathfinder;
+import main.DStarLitePathfinder;
+import main.Maze;
+import main.Pathfinder;
+
+/**
+ * Re-plan cost per player step: a full BFS from scratch (what Ghost does with
+ * -Dsoulmaze.pathfinder=bfs) against D* Lite repairing its previous search.
+ *
+ * The player random-walks; the ghost steps one tile along its path every
+ * GHOST_EVERY player steps (player 4px/tick vs ghost 1px/tick on 10px
+ * tiles), and respawns at a random tile when it catches up. Path lengths are checked against BFS on every step.
+ *
+ * Run: java -cp bin bench.ReplanBenchmark
+ */
+public class ReplanBenchmark {
+    private static final int TICKS = 20000;
+    private static final int CHASES = 20;
+    private static final int GHOST_EVERY = 4;
+
+    public static void main(String[] args) {
+        Maze maze = new Maze();
+        int cols = maze.getCols();
+
+        BfsPathfinder reference = new BfsPathfinder(maze);
+        run("bfs   ", maze, new BfsPathfinder(maze), reference, cols);
+        run("dstar ", maze, new DStarLitePathfinder(maze), reference, cols);
+    }
+
+    private static void run(String name, Maze maze, Pathfinder finder, BfsPathfinder reference, int cols) {
+        for (int pass = 0; pass < 2; pass++) { // first pass is warmup
+            long nanos = 0, expanded = 0;
+            int steps = 0, wrong = 0;
+            for (int chase = 0; chase < CHASES; chase++) {
+                int[] walk = GhostNavigationBenchmark.randomWalk(maze, TICKS, new Random(chase));
+                int ghost = GhostNavigationBenchmark.randomOpenTiles(maze, 1, new Random(100 + chase))[0];
+                if (finder instanceof DStarLitePathfinder) ((DStarLitePathfinder) finder).reset();
+
+                Random rnd = new Random(200 + chase);
+                int playerSteps = 0;
+                for (int t = 0; t < TICKS; t++) {
+                    if (t > 0 && walk[t] == walk[t - 1]) continue; // only re-plan on a tile change
+                    int player = walk[t];
+
+                    long start = System.nanoTime();
+                    int len = finder.findPath(ghost / cols, ghost % cols, player / cols, player % cols);
+                    nanos += System.nanoTime() - start;
+                    expanded += finder.getNodesExpanded();
+                    steps++;
+
+                    if (pass == 1 && len != reference.findPath(ghost / cols, ghost % cols, player / cols, player % cols)) wrong++;
+
+                    // ghost follows its path; once it catches the player it respawns somewhere else
+                    if (len <= 2) {
+                        ghost = GhostNavigationBenchmark.randomOpenTiles(maze, 1, rnd)[0];
+                        if (finder instanceof DStarLitePathfinder) ((DStarLitePathfinder) finder).reset();
+                    } else if (++playerSteps % GHOST_EVERY == 0) {
+                        ghost = finder.getPath()[1];
+                    }
+                }
+            }
+            if (pass == 1) {
+                System.out.printf("%s %8.1f us/step %10.1f nodes expanded/step   %d wrong lengths (%d steps)%n",
+                        name, nanos / 1000.0 / steps, expanded / (double) steps, wrong, steps);
+            }
+        }
+    }
+}
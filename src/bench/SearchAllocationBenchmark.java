@@ -0,0 +1,52 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import main.BfsPathfinder;
+import main.FlowField;
+import main.Maze;
+
+/**
+ * Time and bytes allocated per search: the old Ghost.computePath against the
+ * SearchWorkspace-backed BfsPathfinder and FlowField rebuild.
+ *
+ * Run: java -cp bin bench.SearchAllocationBenchmark
+ */
+public class SearchAllocationBenchmark {
+    private static final int QUERIES = 5000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        Maze maze = new Maze();
+        int cols = maze.getCols();
+        int[] starts = GhostNavigationBenchmark.randomOpenTiles(maze, QUERIES, new Random(3));
+        int[] goals = GhostNavigationBenchmark.randomOpenTiles(maze, QUERIES, new Random(5));
+
+        GhostNavigationBenchmark.LegacyBfs legacy = new GhostNavigationBenchmark.LegacyBfs(maze);
+        BfsPathfinder bfs = new BfsPathfinder(maze);
+        FlowField field = new FlowField(maze);
+
+        run("old computePath   ", i -> legacy.computePath(starts[i] / cols, starts[i] % cols, goals[i] / cols, goals[i] % cols));
+        run("BfsPathfinder     ", i -> bfs.findPath(starts[i] / cols, starts[i] % cols, goals[i] / cols, goals[i] % cols));
+        run("FlowField rebuild ", i -> field.setGoal(goals[i] / cols, goals[i] % cols));
+    }
+
+    private interface Query { void run(int i); }
+
+    private static void run(String name, Query query) {
+        for (int i = 0; i < QUERIES; i++) query.run(i); // warmup
+
+        long tid = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(tid);
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) query.run(i);
+        long nanos = System.nanoTime() - start;
+        long bytes = THREADS.getThreadAllocatedBytes(tid) - bytesBefore;
+
+        System.out.printf("%s %8.1f us/search %12.1f bytes/search%n",
+                name, nanos / 1000.0 / QUERIES, bytes / (double) QUERIES);
+    }
+}
@@ -0,0 +1,77 @@
+package bench;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import main.GameWorld;
+import main.LevelManager;
+import main.LevelState;
+import main.PlayerInput;
+import main.RenderSnapshot;
+import main.SnapshotBuffer;
+import main.WorldRenderer;
+
+/**
+ * The game thread and a renderer running flat out against each other
+ * through a SnapshotBuffer: one thread ticks a level, captures and
+ * publishes every tick; the main thread keeps drawing the latest snapshot
+ * with WorldRenderer. Reports what capture and publish cost per tick and
+ * checks what the buffer promises: a snapshot being drawn is never written
+ * (its sequence can't change under the renderer) and frames never go back
+ * to an older snapshot.
+ *
+ * Run: java -Djava.awt.headless=true -cp bin bench.SnapshotBufferBenchmark
+ */
+public class SnapshotBufferBenchmark {
+    private static final long RUN_NANOS = 3_000_000_000L;
+
+    public static void main(String[] args) throws Exception {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        LevelManager levelManager = new LevelManager(1);
+        long[] captureNanos = new long[1], publishNanos = new long[1], ticks = new long[1];
+
+        Thread writer = new Thread(() -> {
+            GameWorld world = new GameWorld(LevelState.build(levelManager, 1), levelManager, null);
+            int[] walk = {PlayerInput.RIGHT, PlayerInput.DOWN, PlayerInput.LEFT, PlayerInput.UP};
+            while (!stop) {
+                if (world.isFinished()) world = new GameWorld(LevelState.build(levelManager, 1), levelManager, null);
+                world.tick(walk[(int) (world.getTicks() / 120 % 4)]);
+                long t0 = System.nanoTime();
+                buffer.back().capture(world, 180, "bench", levelManager.getScore(), false);
+                long t1 = System.nanoTime();
+                buffer.publish();
+                long t2 = System.nanoTime();
+                captureNanos[0] += t1 - t0;
+                publishNanos[0] += t2 - t1;
+                ticks[0]++;
+            }
+        }, "writer");
+
+        WorldRenderer renderer = new WorldRenderer();
+        BufferedImage image = new BufferedImage(1200, 780, BufferedImage.TYPE_INT_ARGB);
+        Graphics g = image.getGraphics();
+        long frames = 0, changedWhileDrawn = 0, wentBack = 0, lastSequence = 0;
+
+        writer.start();
+        long end = System.nanoTime() + RUN_NANOS;
+        while (System.nanoTime() < end) {
+            RenderSnapshot s = buffer.latest();
+            long sequence = s.getSequence();
+            renderer.render(g, s, 0.5, 1200, 780);
+            if (s.getSequence() != sequence) changedWhileDrawn++;
+            if (sequence < lastSequence) wentBack++;
+            lastSequence = sequence;
+            frames++;
+        }
+        stop = true;
+        writer.join();
+
+        System.out.printf("ticks published   %d (%.0f/s)%n", ticks[0], ticks[0] / (RUN_NANOS / 1e9));
+        System.out.printf("frames drawn      %d (%.0f/s)%n", frames, frames / (RUN_NANOS / 1e9));
+        System.out.printf("capture           %.0f ns/tick%n", captureNanos[0] / (double) ticks[0]);
+        System.out.printf("publish           %.0f ns/tick%n", publishNanos[0] / (double) ticks[0]);
+        System.out.printf("written under the renderer: %d, older than the last frame: %d%n", changedWhileDrawn, wentBack);
+    }
+
+    private static volatile boolean stop;
+}
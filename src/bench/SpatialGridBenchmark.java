@@ -0,0 +1,91 @@
+package bench;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import main.SpatialGrid;
+
+/**
+ * Player-box overlap queries against N 50px entities: the old linear scan
+ * (a getBounds() Rectangle per entity) against SpatialGrid. Like the game,
+ * most entities sit still (souls, graves) and a tenth move 1px per tick
+ * (ghosts); the grid pays a move() for each mover every tick. The world
+ * grows with N so the density stays like the real game (about 10 entities
+ * per 1200 x 780 screen). Every query's result is checked against the scan.
+ *
+ * Run: java -cp bin bench.SpatialGridBenchmark
+ */
+public class SpatialGridBenchmark {
+    private static final int SIZE = 50, PLAYER = 60;
+    private static final int TICKS = 2000;
+
+    static final class Thing {
+        int x, y;
+        Rectangle getBounds() { return new Rectangle(x, y, SIZE, SIZE); }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("     N   scan us/tick   grid query us   grid moves us   speedup   mismatches");
+        for (int n : new int[]{10, 100, 1000, 5000, 20000}) run(n);
+    }
+
+    private static void run(int n) {
+        double screens = Math.max(1, n / 10.0);
+        int side = (int) Math.ceil(Math.sqrt(screens));
+        int width = 1200 * side, height = 780 * side;
+        Random rnd = new Random(n);
+
+        List<Thing> things = new ArrayList<>();
+        SpatialGrid<Thing> grid = new SpatialGrid<>(width, height, SpatialGrid.CELL_TILES * 10);
+        for (int i = 0; i < n; i++) {
+            Thing t = new Thing();
+            t.x = rnd.nextInt(width - SIZE);
+            t.y = rnd.nextInt(height - SIZE);
+            things.add(t);
+            grid.insert(t, t.x, t.y, SIZE, SIZE);
+        }
+        int[] px = new int[TICKS], py = new int[TICKS];
+        for (int i = 0; i < TICKS; i++) {
+            px[i] = rnd.nextInt(width - PLAYER);
+            py[i] = rnd.nextInt(height - PLAYER);
+        }
+
+        // each tick every entity takes a 1px step, then the player box is checked
+        long scanNanos = 0, gridNanos = 0, moveNanos = 0;
+        int mismatches = 0, sink = 0;
+        List<Thing> hits = new ArrayList<>();
+        for (int round = 0; round < 3; round++) { // rounds 0-1 are warmup
+            scanNanos = gridNanos = moveNanos = 0;
+            for (int tick = 0; tick < TICKS; tick++) {
+                for (int i = 0; i < n; i += 10) {
+                    Thing t = things.get(i);
+                    t.x = Math.max(0, Math.min(width - SIZE, t.x + ((tick + t.y) % 3) - 1));
+                    t.y = Math.max(0, Math.min(height - SIZE, t.y + ((tick + t.x) % 3) - 1));
+                }
+
+                long start = System.nanoTime();
+                Rectangle player = new Rectangle(px[tick], py[tick], PLAYER, PLAYER);
+                int scan = 0;
+                for (Thing t : things) if (player.intersects(t.getBounds())) scan++;
+                scanNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int i = 0; i < n; i += 10) grid.move(things.get(i), things.get(i).x, things.get(i).y);
+                moveNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                hits.clear();
+                int found = grid.query(px[tick], py[tick], PLAYER, PLAYER, hits);
+                gridNanos += System.nanoTime() - start;
+
+                if (found != scan) mismatches++;
+                sink += found;
+            }
+        }
+        System.out.printf("%6d   %12.2f   %13.2f   %13.2f   %6.1fx   %d%s%n", n,
+                scanNanos / 1000.0 / TICKS, gridNanos / 1000.0 / TICKS, moveNanos / 1000.0 / TICKS,
+                (double) scanNanos / (gridNanos + moveNanos), mismatches, sink < 0 ? "!" : "");
+    }
+}
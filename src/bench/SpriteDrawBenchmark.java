@@ -0,0 +1,66 @@
+package bench;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+import main.AssetCache;
+import main.SpriteAtlas;
+
+/**
+ * Per-frame cost of the entity sprites (1 player, 3 ghosts, 6 graves):
+ * scaling each source PNG in drawImage, as the entities used to, against
+ * unscaled blits out of the pre-scaled SpriteAtlas. Also checks that
+ * changing a size triggers exactly one atlas rebuild.
+ *
+ * Run headless: java -Djava.awt.headless=true -cp bin bench.SpriteDrawBenchmark
+ */
+public class SpriteDrawBenchmark {
+    private static final int WARMUP = 2000;
+    private static final int FRAMES = 20000;
+    private static final String DIR = "src/assets/Images/";
+
+    public static void main(String[] args) {
+        Image player = AssetCache.pinImage(DIR + "PlayerDown.png");
+        Image ghost = AssetCache.pinImage(DIR + "Ghost.png");
+        String[] graveFiles = {"BlueGrave", "RedGrave", "OrangeGrave", "YellowGrave", "GreenGrave", "PurpleGrave"};
+        Image[] graves = new Image[graveFiles.length];
+        for (int i = 0; i < graves.length; i++) graves[i] = AssetCache.pinImage(DIR + graveFiles[i] + ".png");
+
+        SpriteAtlas atlas = new SpriteAtlas(512);
+        int playerId = atlas.register(player);
+        int ghostId = atlas.register(ghost);
+        int[] graveIds = new int[graves.length];
+        for (int i = 0; i < graves.length; i++) graveIds[i] = atlas.register(graves[i]);
+
+        BufferedImage frame = new BufferedImage(1200, 780, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = frame.createGraphics();
+
+        double scaled = time(() -> {
+            g.drawImage(player, 600, 400, 60, 60, null);
+            for (int i = 0; i < 3; i++) g.drawImage(ghost, 100 + i * 300, 100, 50, 50, null);
+            for (int i = 0; i < graves.length; i++) g.drawImage(graves[i], 100 + i * 80, 600, 50, 50, null);
+        });
+        double blit = time(() -> {
+            atlas.draw(g, playerId, 600, 400, 60, 60);
+            for (int i = 0; i < 3; i++) atlas.draw(g, ghostId, 100 + i * 300, 100, 50, 50);
+            for (int i = 0; i < graves.length; i++) atlas.draw(g, graveIds[i], 100 + i * 80, 600, 50, 50);
+        });
+        System.out.printf("entities per frame: scaled drawImage %.2f us, atlas blit %.2f us (%.1fx)%n",
+                scaled, blit, scaled / blit);
+
+        int before = atlas.getRebuilds();
+        for (int i = 0; i < 100; i++) atlas.draw(g, playerId, 0, 0, 72, 72); // e.g. Player.size changed
+        System.out.printf("atlas %dx%d, %d builds; a new player size cost %d more%n",
+                atlas.getImage().getWidth(), atlas.getImage().getHeight(), before, atlas.getRebuilds() - before);
+        g.dispose();
+    }
+
+    /** Mean microseconds per call after warmup. */
+    private static double time(Runnable frame) {
+        for (int i = 0; i < WARMUP; i++) frame.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) frame.run();
+        return (System.nanoTime() - start) / 1000.0 / FRAMES;
+    }
+}
@@ -0,0 +1,84 @@
+package main;
+
+/**
+ * A* with a Manhattan-distance heuristic (exact for 4-way movement with no
+ * walls in the way, so it never overestimates). In open rooms it heads
+ * straight for the goal instead of flooding the whole maze like BFS.
+ *
+ * Open list is a TileHeap keyed by f = g + h; ties go to the tile closest to
+ * the goal so equal-cost paths don't all get expanded.
+ */
+public class AStarPathfinder implements Pathfinder {
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final Maze maze;
+    private final int rows, cols;
+    private final SearchWorkspace search;
+    private final TileHeap open;
+    private int expanded;
+
+    public AStarPathfinder(Maze maze) {
+        this.maze = maze;
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.search = new SearchWorkspace(rows * cols);
+        this.open = new TileHeap(rows * cols);
+    }
+
+    @Override
+    public int findPath(int startRow, int startCol, int goalRow, int goalCol) {
+        expanded = 0;
+        if (!inBounds(startRow, startCol) || !inBounds(goalRow, goalCol)) return 0;
+
+        search.begin();
+        open.clear();
+        int start = startRow * cols + startCol;
+        int goal = goalRow * cols + goalCol;
+        search.visit(start, -1, 0);
+        open.put(start, key(0, startRow, startCol, goalRow, goalCol));
+
+        while (!open.isEmpty()) {
+            int cur = open.pop();
+            search.close(cur);
+            expanded++;
+            if (cur == goal) return search.tracePath(goal);
+
+            int r = cur / cols, c = cur % cols;
+            int g = search.costOf(cur) + 1;
+            for (int i = 0; i < 4; i++) {
+                int nr = r + DR[i];
+                int nc = c + DC[i];
+                if (!inBounds(nr, nc)) continue;
+                int n = nr * cols + nc;
+                if (search.isClosed(n) || !Ghost.isSafeTile(maze, nr, nc)) continue;
+                int known = search.costOf(n);
+                if (known >= 0 && known <= g) continue;
+                search.visit(n, cur, g);
+                open.put(n, key(g, nr, nc, goalRow, goalCol));
+            }
+        }
+        return 0;
+    }
+
+    // f in the high bits, h in the low bits as the tie-breaker
+    private static long key(int g, int r, int c, int goalRow, int goalCol) {
+        int h = Math.abs(r - goalRow) + Math.abs(c - goalCol);
+        return ((long) (g + h) << 32) | h;
+    }
+
+    @Override
+    public int[] getPath() {
+        return search.getPath();
+    }
+
+    @Override
+    public int getNodesExpanded() { return expanded; }
+
+    @Override
+    public String getName() { return "astar"; }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && c >= 0 && r < rows && c < cols;
+    }
+}
@@ -0,0 +1,236 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+
+/**
+ * One copy of every image and sound clip in the process, keyed by path.
+ *
+ * acquireImage / acquireClip hand out a Handle and count it; the asset is
+ * loaded by the first acquire and closed (Clip.close, Image.flush) when the
+ * last handle is closed, so retries and menu round trips don't pile up
+ * audio lines and decoded PCM. Sprites that live as long as the game use
+ * pinImage(), which simply never gives its reference back. Clips are never
+ * pinned: warmClip() loads one ahead of time and its reference passes to
+ * the first acquireClip(), so the clip still closes with its last owner.
+ *
+ * A failed load is kept like any other (get() returns null) so a missing
+ * file is reported once per load, not every frame. report() lists what is loaded and how
+ * much memory it holds; -Dsoulmaze.assetReport=true prints it at exit.
+ *
+ * Thread-safe: different assets load in parallel, the same asset once.
+ */
+public final class AssetCache {
+    private static final ConcurrentHashMap<String, Entry<?>> ENTRIES = new ConcurrentHashMap<>();
+
+    static {
+        if (Boolean.getBoolean("soulmaze.assetReport")) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.print(report()), "asset-report"));
+        }
+    }
+
+    private AssetCache() {}
+
+    /** A counted reference to a shared asset. close() gives it back; closing twice does nothing. */
+    public static final class Handle<T> implements AutoCloseable {
+        private final Entry<T> entry;
+        private boolean closed;
+
+        private Handle(Entry<T> entry) { this.entry = entry; }
+
+        /** The asset, or null if it failed to load. Don't use it after close(). */
+        public T get() { return entry.value; }
+
+        public String getPath() { return entry.path; }
+
+        @Override
+        public synchronized void close() {
+            if (closed) return;
+            closed = true;
+            entry.release();
+        }
+    }
+
+    // === Acquire ===
+    public static Handle<BufferedImage> acquireImage(String path) {
+        return acquire("image", path, "", AssetCache::loadImage);
+    }
+
+    /** The image scaled to width x height once, the way the menus used to scale on every build. */
+    public static Handle<BufferedImage> acquireScaledImage(String path, int width, int height) {
+        return acquire("image", path, "@" + width + "x" + height, p -> loadScaled(p, width, height));
+    }
+
+    public static Handle<Clip> acquireClip(String path) {
+        return acquire("clip", path, "", AssetCache::loadClip);
+    }
+
+    /** Image that stays loaded for the rest of the run (static sprites, menu art). */
+    public static BufferedImage pinImage(String path) {
+        return pin(acquireImage(path));
+    }
+
+    public static BufferedImage pinScaledImage(String path, int width, int height) {
+        return pin(acquireScaledImage(path, width, height));
+    }
+
+    /**
+     * Loads a clip before anyone needs it. The cache holds it until the next
+     * acquireClip() of that path, which takes over the reference; from then
+     * on it closes like any other clip when its last handle is closed.
+     */
+    public static void warmClip(String path) {
+        Handle<Clip> handle = acquireClip(path);
+        Entry<Clip> entry = handle.entry;
+        synchronized (entry) {
+            if (entry.pinned || entry.warm || entry.refs > 1) handle.close(); // someone holds it already
+            else entry.warm = true;
+        }
+    }
+
+    private static <T> T pin(Handle<T> handle) {
+        Entry<T> entry = handle.entry;
+        synchronized (entry) {
+            if (entry.pinned) entry.refs--; // one pin holds it already
+            entry.pinned = true;
+        }
+        return entry.value;
+    }
+
+    private interface Loader<T> {
+        T load(String path) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Handle<T> acquire(String kind, String path, String variant, Loader<T> loader) {
+        String key = kind + ":" + Paths.get(path).normalize() + variant;
+        while (true) {
+            Entry<T> entry = (Entry<T>) ENTRIES.computeIfAbsent(key, k -> new Entry<>(k, kind, path, loader));
+            synchronized (entry) {
+                if (entry.dead) continue; // lost a race with the last release; make a new one
+                if (entry.warm) entry.warm = false; // take over warmClip's reference
+                else entry.refs++;
+                if (!entry.loaded) entry.load();
+                return new Handle<>(entry);
+            }
+        }
+    }
+
+    // === Entries ===
+    private static final class Entry<T> {
+        final String key, kind, path; // path is the file; key adds the variant (e.g. a size)
+        final Loader<T> loader;
+        volatile T value;
+        int refs;
+        boolean loaded, dead, pinned, warm;
+        long bytes, loadNanos;
+
+        Entry(String key, String kind, String path, Loader<T> loader) {
+            this.key = key;
+            this.kind = kind;
+            this.path = path;
+            this.loader = loader;
+        }
+
+        void load() {
+            long start = System.nanoTime();
+            try {
+                value = loader.load(path);
+            } catch (Exception e) {
+                System.err.println("Error loading " + kind + " " + path + ": " + e.getMessage());
+            }
+            loadNanos = System.nanoTime() - start;
+            bytes = sizeOf(value);
+            loaded = true;
+        }
+
+        synchronized void release() {
+            if (--refs > 0) return;
+            dead = true;
+            ENTRIES.remove(key, this);
+            if (value instanceof Clip) {
+                Clip clip = (Clip) value;
+                clip.stop();
+                clip.close();
+            } else if (value instanceof BufferedImage) {
+                ((BufferedImage) value).flush();
+            }
+            value = null;
+        }
+    }
+
+    private static BufferedImage loadImage(String path) throws Exception {
+        BufferedImage image = ImageIO.read(new File(path));
+        if (image == null) throw new Exception("not an image");
+        return image;
+    }
+
+    private static BufferedImage loadScaled(String path, int width, int height) throws Exception {
+        try (Handle<BufferedImage> source = acquireImage(path)) {
+            if (source.get() == null) throw new Exception("source image missing");
+            // SCALE_SMOOTH so buttons look exactly as before; it's just done once now
+            Image scaled = source.get().getScaledInstance(width, height, Image.SCALE_SMOOTH);
+            BufferedImage out = CompatibleImages.create(width, height, Transparency.TRANSLUCENT);
+            Graphics2D g = out.createGraphics();
+            g.drawImage(scaled, 0, 0, null);
+            g.dispose();
+            return out;
+        }
+    }
+
+    private static Clip loadClip(String path) throws Exception {
+        try (AudioInputStream ais = AudioSystem.getAudioInputStream(new File(path))) {
+            Clip clip = AudioSystem.getClip();
+            clip.open(ais);
+            return clip;
+        }
+    }
+
+    private static long sizeOf(Object value) {
+        if (value instanceof BufferedImage) {
+            DataBuffer data = ((BufferedImage) value).getRaster().getDataBuffer();
+            return (long) data.getSize() * data.getNumBanks() * DataBuffer.getDataTypeSize(data.getDataType()) / 8;
+        }
+        if (value instanceof Clip) {
+            Clip clip = (Clip) value;
+            return (long) clip.getFrameLength() * clip.getFormat().getFrameSize();
+        }
+        return 0;
+    }
+
+    // === Report ===
+    /** Number of assets currently loaded. */
+    public static int size() {
+        return ENTRIES.size();
+    }
+
+    /** Loaded assets, biggest first: references, decoded size and load time. */
+    public static String report() {
+        List<Entry<?>> entries = new ArrayList<>(ENTRIES.values());
+        entries.sort((a, b) -> Long.compare(b.bytes, a.bytes));
+        StringBuilder sb = new StringBuilder("[assets] ").append(entries.size()).append(" loaded\n");
+        long total = 0;
+        for (Entry<?> e : entries) {
+            synchronized (e) {
+                sb.append(String.format("  %-5s %3d refs%s %9.1f KB %7.1f ms  %s%s%n", e.kind, e.refs,
+                        e.pinned ? "*" : e.warm ? "~" : " ", e.bytes / 1024.0, e.loadNanos / 1e6, e.key.substring(e.kind.length() + 1),
+                        e.value == null ? "  (failed)" : ""));
+                total += e.bytes;
+            }
+        }
+        sb.append(String.format("  total %.1f MB   (* = pinned for the whole run, ~ = warmed, not acquired yet)%n", total / (1024.0 * 1024.0)));
+        return sb.toString();
+    }
+}
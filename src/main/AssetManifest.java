@@ -0,0 +1,86 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * List of asset files to preload at startup, built by walking src/assets.
+ *
+ * PNGs become images and WAVs become clips. Everything else (fonts, level
+ * files, the animated game over GIF) is still listed, with its size, but
+ * is not preloaded. Entries can also be a scaled variant of an image
+ * (width/height > 0), for screens that show a PNG at a fixed size.
+ */
+public class AssetManifest {
+    public enum Kind { IMAGE, CLIP, OTHER }
+
+    public static final class Asset {
+        private final String path;
+        private final Kind kind;
+        private final int width, height; // 0 = original size
+        private final long fileBytes;
+
+        private Asset(String path, Kind kind, int width, int height, long fileBytes) {
+            this.path = path;
+            this.kind = kind;
+            this.width = width;
+            this.height = height;
+            this.fileBytes = fileBytes;
+        }
+
+        public String getPath() { return path; }
+        public Kind getKind() { return kind; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public long getFileBytes() { return fileBytes; }
+
+        @Override
+        public String toString() {
+            return width > 0 ? path + "@" + width + "x" + height : path;
+        }
+    }
+
+    public static Asset image(String path) { return new Asset(path, Kind.IMAGE, 0, 0, 0); }
+    public static Asset scaledImage(String path, int width, int height) { return new Asset(path, Kind.IMAGE, width, height, 0); }
+    public static Asset clip(String path) { return new Asset(path, Kind.CLIP, 0, 0, 0); }
+
+    private final List<Asset> assets;
+
+    private AssetManifest(List<Asset> assets) {
+        this.assets = Collections.unmodifiableList(assets);
+    }
+
+    /** Every regular file under {@code root}, sorted by path. */
+    public static AssetManifest scan(Path root) throws IOException {
+        List<Asset> assets = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+                String path = file.toString().replace('\\', '/');
+                String name = path.toLowerCase();
+                Kind kind = name.endsWith(".png") ? Kind.IMAGE : name.endsWith(".wav") ? Kind.CLIP : Kind.OTHER;
+                assets.add(new Asset(path, kind, 0, 0, Files.size(file)));
+            }
+        }
+        return new AssetManifest(assets);
+    }
+
+    public List<Asset> getAssets() { return assets; }
+
+    /** The images and clips, i.e. what the preloader decodes. */
+    public List<Asset> getLoadable() {
+        List<Asset> out = new ArrayList<>();
+        for (Asset a : assets) if (a.kind != Kind.OTHER) out.add(a);
+        return out;
+    }
+
+    public long getTotalBytes() {
+        long total = 0;
+        for (Asset a : assets) total += a.fileBytes;
+        return total;
+    }
+}
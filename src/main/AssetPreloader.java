@@ -0,0 +1,73 @@
+package main;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes assets on a pool of worker threads and pins them in AssetCache,
+ * so screens and sprite classes find them already loaded. Clips are only
+ * warmed (AssetCache.warmClip), so the screen that plays one still owns it
+ * and closes it.
+ *
+ * Batches run in the order they are given to load(): the pool takes tasks
+ * first come first served, so load(menu) then load(everything) gets the
+ * menu on screen before the rest is done. Assets already loaded are skipped
+ * by the cache, so overlapping batches are fine.
+ */
+public class AssetPreloader {
+    /** Called from worker threads after each asset. */
+    public interface Progress {
+        void update(int done, int total, AssetManifest.Asset asset);
+    }
+
+    private final ExecutorService pool;
+
+    public AssetPreloader() {
+        this(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public AssetPreloader(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "asset-loader-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Starts loading {@code assets}; the future completes when all of them are done. */
+    public CompletableFuture<Void> load(List<AssetManifest.Asset> assets, Progress progress) {
+        AtomicInteger done = new AtomicInteger();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[assets.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            AssetManifest.Asset asset = assets.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                loadOne(asset);
+                if (progress != null) progress.update(done.incrementAndGet(), assets.size(), asset);
+            }, pool);
+        }
+        return CompletableFuture.allOf(tasks);
+    }
+
+    private static void loadOne(AssetManifest.Asset asset) {
+        switch (asset.getKind()) {
+            case IMAGE:
+                if (asset.getWidth() > 0) AssetCache.pinScaledImage(asset.getPath(), asset.getWidth(), asset.getHeight());
+                else AssetCache.pinImage(asset.getPath());
+                break;
+            case CLIP:
+                AssetCache.warmClip(asset.getPath());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /** Lets the worker threads exit once the queued work is done. */
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
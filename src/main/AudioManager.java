@@ -1,38 +1,37 @@
 package main;
 
 import javax.sound.sampled.*;
-import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * AudioManager handles playback of sound effects and music.
+ * Clips come from AssetCache (shared, counted); cleanup() hands them back.
  */
 public class AudioManager {
     private Clip backgroundClip;
     private FloatControl bgVolumeControl;
+    private AssetCache.Handle<Clip> backgroundHandle;
 
     // Store multiple sound effects
     private Map<String, Clip> sfxMap = new HashMap<>();
+    private Map<String, AssetCache.Handle<Clip>> sfxHandles = new HashMap<>();
 
     // === Load background music ===
     public void loadBackgroundMusic(String filepath) {
-        try {
-            AudioInputStream ais = AudioSystem.getAudioInputStream(new File(filepath));
-            backgroundClip = AudioSystem.getClip();
-            backgroundClip.open(ais);
-
-            if (backgroundClip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
-                bgVolumeControl = (FloatControl) backgroundClip.getControl(FloatControl.Type.MASTER_GAIN);
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading background music: " + e.getMessage());
+        if (backgroundHandle != null) backgroundHandle.close();
+        backgroundHandle = AssetCache.acquireClip(filepath);
+        backgroundClip = backgroundHandle.get();
+        bgVolumeControl = null;
+        if (backgroundClip != null && backgroundClip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            bgVolumeControl = (FloatControl) backgroundClip.getControl(FloatControl.Type.MASTER_GAIN);
         }
     }
 
     public void playBackgroundMusic(boolean loop) {
         if (backgroundClip == null) return;
         backgroundClip.stop();
+        if (bgVolumeControl != null) bgVolumeControl.setValue(Math.min(0f, bgVolumeControl.getMaximum())); // shared clip, may be faded out
         backgroundClip.setFramePosition(0);
         if (loop) {
             backgroundClip.loop(Clip.LOOP_CONTINUOUSLY);
@@ -56,14 +55,13 @@ public class AudioManager {
 
     // === Load a sound effect ===
     public void loadSFX(String name, String filepath) {
-        try {
-            AudioInputStream ais = AudioSystem.getAudioInputStream(new File(filepath));
-            Clip clip = AudioSystem.getClip();
-            clip.open(ais);
-            sfxMap.put(name, clip);
-        } catch (Exception e) {
-            System.err.println("Error loading SFX " + name + ": " + e.getMessage());
-        }
+        AssetCache.Handle<Clip> old = sfxHandles.remove(name);
+        if (old != null) old.close();
+        sfxMap.remove(name);
+
+        AssetCache.Handle<Clip> handle = AssetCache.acquireClip(filepath);
+        sfxHandles.put(name, handle);
+        if (handle.get() != null) sfxMap.put(name, handle.get());
     }
 
     // === Play a sound effect (one-shot) ===
@@ -71,6 +69,11 @@ public class AudioManager {
         Clip clip = sfxMap.get(name);
         if (clip == null) return;
         if (clip.isRunning()) clip.stop();
+        // clips are reused now, so undo any earlier fadeOutSFX
+        if (clip.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            FloatControl gain = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
+            gain.setValue(Math.min(0f, gain.getMaximum()));
+        }
         clip.setFramePosition(0);
         if (loop) clip.loop(Clip.LOOP_CONTINUOUSLY);
         else clip.start();
@@ -100,17 +103,23 @@ public class AudioManager {
     // === Cleanup all audio resources ===
     public void cleanup() {
         stopBackgroundMusic();
-        if (backgroundClip != null) backgroundClip.close();
+        if (backgroundHandle != null) backgroundHandle.close(); // closes the clip if nobody else uses it
+        backgroundHandle = null;
+        backgroundClip = null;
+        bgVolumeControl = null;
 
         for (Clip clip : sfxMap.values()) {
             if (clip.isRunning()) clip.stop();
-            clip.close();
         }
+        for (AssetCache.Handle<Clip> handle : sfxHandles.values()) handle.close();
         sfxMap.clear();
+        sfxHandles.clear();
     }
     
     public void fadeOutBackgroundMusic(int durationMs) {
         if (backgroundClip == null || bgVolumeControl == null || !backgroundClip.isRunning()) return;
+        Clip backgroundClip = this.backgroundClip;       // cleanup() may clear the fields mid-fade
+        FloatControl bgVolumeControl = this.bgVolumeControl;
 
         new Thread(() -> {
             try {
@@ -136,6 +145,8 @@ public class AudioManager {
     
     public void fadeInBackgroundMusic(int durationMs, boolean loop) {
         if (backgroundClip == null || bgVolumeControl == null) return;
+        Clip backgroundClip = this.backgroundClip;
+        FloatControl bgVolumeControl = this.bgVolumeControl;
 
         new Thread(() -> {
             try {
@@ -0,0 +1,72 @@
+package main;
+
+/**
+ * Point-to-point breadth-first search over the tiles a ghost can stand on.
+ * Same search the ghosts used to run in Ghost.computePath, but on a reusable
+ * SearchWorkspace so a query allocates nothing.
+ */
+public class BfsPathfinder implements Pathfinder {
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final Maze maze;
+    private final int rows, cols;
+    private final SearchWorkspace search;
+    private int expanded;
+
+    public BfsPathfinder(Maze maze) {
+        this.maze = maze;
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.search = new SearchWorkspace(rows * cols);
+    }
+
+    @Override
+    public int findPath(int startRow, int startCol, int goalRow, int goalCol) {
+        expanded = 0;
+        if (!inBounds(startRow, startCol) || !inBounds(goalRow, goalCol)) return 0;
+
+        search.begin();
+        int start = startRow * cols + startCol;
+        int goal = goalRow * cols + goalCol;
+        search.visit(start, -1, 0);
+        search.push(start);
+
+        while (!search.isQueueEmpty()) {
+            int cur = search.pop();
+            expanded++;
+            if (cur == goal) return search.tracePath(goal);
+
+            int r = cur / cols, c = cur % cols;
+            int next = search.costOf(cur) + 1;
+            for (int i = 0; i < 4; i++) {
+                int nr = r + DR[i];
+                int nc = c + DC[i];
+                if (!inBounds(nr, nc)) continue;
+                int n = nr * cols + nc;
+                // keep safe tile check (buffer) — prevents pathing into impossibly narrow spots
+                if (search.isVisited(n) || !Ghost.isSafeTile(maze, nr, nc)) continue;
+                search.visit(n, cur, next);
+                search.push(n);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public int[] getPath() {
+        return search.getPath();
+    }
+
+    @Override
+    public int getNodesExpanded() { return expanded; }
+
+    @Override
+    public String getName() { return "bfs"; }
+
+    public int getCols() { return cols; }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && c >= 0 && r < rows && c < cols;
+    }
+}
@@ -0,0 +1,31 @@
+package main;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Creates images in the screen's native pixel format so Java2D can keep them
+ * in video memory (managed images). Falls back to plain BufferedImages when
+ * running headless.
+ */
+public final class CompatibleImages {
+    private CompatibleImages() {}
+
+    public static BufferedImage create(int width, int height, int transparency) {
+        GraphicsConfiguration gc = getConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        return new BufferedImage(width, height, type);
+    }
+
+    /** Default screen configuration, or null when headless. */
+    public static GraphicsConfiguration getConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) return null;
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+    }
+}
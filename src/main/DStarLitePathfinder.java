@@ -0,0 +1,216 @@
+package main;
+
+import java.util.Arrays;
+
+/**
+ * D* Lite that keeps its search between calls and repairs it as the ghost
+ * and the player move, instead of searching from scratch every time.
+ *
+ * The search is rooted at the ghost's tile and aims at the player's tile:
+ * g(tile) is the distance from the ghost. A player step is the cheap case
+ * (the heuristic just shifts by km, so usually only a handful of tiles near
+ * the player get touched). While the ghost walks along the path the root
+ * stays put and the ghost's part of the path is handed out; only when the
+ * ghost leaves the path does the root move to it (two edge-cost changes to
+ * D* Lite, repaired locally).
+ *
+ * Walls are read once in the constructor and assumed not to change.
+ */
+public class DStarLitePathfinder implements Pathfinder {
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+    private static final int INF = 1 << 28;
+    // Start over before km gets anywhere near overflowing the key
+    private static final int MAX_KM = 1 << 20;
+
+    private final Maze maze;
+    private final int rows, cols;
+    private final int[] g, rhs;
+    private final boolean[] passable; // safe tiles, looked up once
+    private final TileHeap open;
+    private final int[] path;
+
+    private boolean started = false;
+    private int root = -1;        // ghost tile when the root was last moved
+    private int target = -1;      // player tile
+    private int targetRow, targetCol;
+    private int km = 0;
+    private int expanded;
+
+    public DStarLitePathfinder(Maze maze) {
+        this.maze = maze;
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.g = new int[rows * cols];
+        this.rhs = new int[rows * cols];
+        this.open = new TileHeap(rows * cols);
+        this.path = new int[rows * cols];
+        this.passable = new boolean[rows * cols];
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < cols; c++)
+                passable[r * cols + c] = Ghost.isSafeTile(maze, r, c);
+    }
+
+    @Override
+    public int findPath(int startRow, int startCol, int goalRow, int goalCol) {
+        expanded = 0;
+        if (!inBounds(startRow, startCol) || !inBounds(goalRow, goalCol)) return 0;
+        int ghost = startRow * cols + startCol;
+        int player = goalRow * cols + goalCol;
+
+        if (!started || km > MAX_KM) {
+            reset(ghost, player);
+        } else if (player != target) {
+            // Moving the far end only shifts the heuristic; remember by how much
+            km += manhattan(target, player);
+            setTarget(player);
+        }
+        if (!passable[player]) return 0;
+
+        computeShortestPath();
+        int length = buildPath();
+        if (ghost == root) return length;
+
+        // The ghost walked away from the root along an earlier path. If it is
+        // still on the root -> player path, the rest of that path is a shortest
+        // path from the ghost too, and moving the root (which shifts every g
+        // by one) isn't needed.
+        for (int i = 1; i < length; i++) {
+            if (path[i] == ghost) {
+                System.arraycopy(path, i, path, 0, length - i);
+                return length - i;
+            }
+        }
+        moveRoot(ghost);
+        computeShortestPath();
+        return buildPath();
+    }
+
+    private void moveRoot(int ghost) {
+        int oldRoot = root;
+        root = ghost;
+        updateVertex(oldRoot);
+        updateVertex(root);
+    }
+
+    private void setTarget(int player) {
+        target = player;
+        targetRow = player / cols;
+        targetCol = player % cols;
+    }
+
+    /** Forget everything and search again from scratch on the next call. */
+    public void reset() {
+        started = false;
+    }
+
+    private void reset(int ghost, int player) {
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        open.clear();
+        km = 0;
+        root = ghost;
+        setTarget(player);
+        rhs[root] = 0;
+        open.put(root, key(root));
+        started = true;
+    }
+
+    // === D* Lite ===
+    private void computeShortestPath() {
+        while (!open.isEmpty()
+                && (open.peekKey() < key(target) || rhs[target] != g[target])) {
+            long oldKey = open.peekKey();
+            int u = open.pop();
+            expanded++;
+            long newKey = key(u);
+            if (oldKey < newKey) {
+                open.put(u, newKey); // key went stale after a km change
+            } else if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                updateNeighbours(u);
+            } else {
+                g[u] = INF;
+                updateVertex(u);
+                updateNeighbours(u);
+            }
+        }
+    }
+
+    private void updateNeighbours(int u) {
+        int r = u / cols, c = u % cols;
+        for (int i = 0; i < 4; i++) {
+            int nr = r + DR[i], nc = c + DC[i];
+            if (inBounds(nr, nc)) updateVertex(nr * cols + nc);
+        }
+    }
+
+    private void updateVertex(int u) {
+        if (u == root) {
+            rhs[u] = 0;
+        } else {
+            int best = bestNeighbour(u);
+            rhs[u] = best < 0 ? INF : Math.min(INF, g[best] + 1);
+        }
+        if (g[u] != rhs[u]) open.put(u, key(u));
+        else open.remove(u);
+    }
+
+    // Neighbour with the lowest g that u can step to, -1 if u is a wall / has none
+    private int bestNeighbour(int u) {
+        if (!passable[u] && u != root) return -1;
+        int r = u / cols, c = u % cols;
+        int best = -1, bestG = INF;
+        for (int i = 0; i < 4; i++) {
+            int nr = r + DR[i], nc = c + DC[i];
+            if (!inBounds(nr, nc)) continue;
+            int n = nr * cols + nc;
+            if (g[n] < bestG && (passable[n] || n == root)) {
+                bestG = g[n];
+                best = n;
+            }
+        }
+        return best;
+    }
+
+    // [min(g, rhs) + h + km ; min(g, rhs)] packed into one long
+    private long key(int u) {
+        int m = Math.min(g[u], rhs[u]);
+        int h = Math.abs(u / cols - targetRow) + Math.abs(u % cols - targetCol);
+        return ((long) (m + h + km) << 32) | m;
+    }
+
+    // === Path ===
+    // Walk downhill in g from the player back to the ghost, writing ghost-first
+    private int buildPath() {
+        if (g[target] >= INF) return 0;
+        int length = g[target] + 1;
+        int cur = target;
+        for (int i = length - 1; i > 0; i--) {
+            path[i] = cur;
+            cur = bestNeighbour(cur);
+            if (cur < 0) return 0;
+        }
+        path[0] = cur;
+        return cur == root ? length : 0;
+    }
+
+    @Override
+    public int[] getPath() {
+        return path;
+    }
+
+    @Override
+    public int getNodesExpanded() { return expanded; }
+
+    @Override
+    public String getName() { return "dstar"; }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && c >= 0 && r < rows && c < cols;
+    }
+}
@@ -0,0 +1,102 @@
+package main;
+
+/**
+ * Shared navigation data for every ghost in a maze.
+ *
+ * One BFS is run outward from the player's tile whenever that tile changes;
+ * afterwards any ghost can read the next tile toward the player in O(1), so
+ * the search cost does not grow with the number of ghosts.
+ */
+public class FlowField {
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final Maze maze;
+    private final int rows, cols;
+    private final SearchWorkspace search; // holds the distances; reused every rebuild
+
+    private int goalRow = -1, goalCol = -1;
+    private int rebuilds = 0;
+
+    public FlowField(Maze maze) {
+        this.maze = maze;
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.search = new SearchWorkspace(rows * cols);
+        search.begin();
+    }
+
+    /** Points the field at a new goal tile; does nothing if it is already there. */
+    public void setGoal(int row, int col) {
+        if (row == goalRow && col == goalCol) return;
+        goalRow = row;
+        goalCol = col;
+        rebuild();
+    }
+
+    private void rebuild() {
+        rebuilds++;
+        search.begin();
+        // Goal has to be a tile a ghost can stand on, same as the old per-ghost BFS
+        if (!inBounds(goalRow, goalCol) || !Ghost.isSafeTile(maze, goalRow, goalCol)) return;
+
+        int goal = goalRow * cols + goalCol;
+        search.visit(goal, -1, 0);
+        search.push(goal);
+
+        while (!search.isQueueEmpty()) {
+            int cur = search.pop();
+            int r = cur / cols, c = cur % cols;
+            int next = search.costOf(cur) + 1;
+            for (int i = 0; i < 4; i++) {
+                int nr = r + DR[i];
+                int nc = c + DC[i];
+                if (!inBounds(nr, nc)) continue;
+                int n = nr * cols + nc;
+                // keep safe tile check (buffer) — prevents pathing into impossibly narrow spots
+                if (search.isVisited(n) || !Ghost.isSafeTile(maze, nr, nc)) continue;
+                search.visit(n, cur, next);
+                search.push(n);
+            }
+        }
+    }
+
+    /** Steps from (row, col) to the goal, or -1 if there is no way there. */
+    public int distance(int row, int col) {
+        return inBounds(row, col) ? search.costOf(row * cols + col) : -1;
+    }
+
+    /**
+     * The neighbouring tile one step closer to the goal, as row * cols + col.
+     * Works from tiles outside the field too (e.g. a ghost squeezed against a
+     * wall) by picking the closest reachable neighbour.
+     * @return -1 if already on the goal or the goal can't be reached
+     */
+    public int nextStep(int row, int col) {
+        if (!inBounds(row, col)) return -1;
+        int here = search.costOf(row * cols + col);
+        if (here == 0) return -1;
+
+        int best = -1, bestDist = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int nr = row + DR[i];
+            int nc = col + DC[i];
+            if (!inBounds(nr, nc)) continue;
+            int d = search.costOf(nr * cols + nc);
+            if (d >= 0 && d < bestDist) {
+                bestDist = d;
+                best = nr * cols + nc;
+            }
+        }
+        return best;
+    }
+
+    public int getCols() { return cols; }
+
+    /** How many times the BFS has run (for benchmarks / debugging). */
+    public int getRebuildCount() { return rebuilds; }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && c >= 0 && r < rows && c < cols;
+    }
+}
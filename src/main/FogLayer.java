@@ -0,0 +1,137 @@
+package main;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.RadialGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fog overlay with a soft circular hole around the player.
+ *
+ * Nothing is allocated per frame: the dark fill + fog texture is baked once,
+ * a work buffer is kept with the current hole punched into it, and the radial
+ * reveal masks are pre-rendered per (quantized) radius. Each frame only the
+ * old hole is patched back from the static layer and the new mask stamped in.
+ */
+public class FogLayer {
+    private static final Color FOG_COLOR = new Color(0, 0, 0, 210); // dark but not fully opaque
+    private static final int RADIUS_STEP = 5;  // masks are cached per 5px of radius
+    private static final int MAX_MASKS = 20;   // fogRadius only pulses between ~140 and ~230
+
+    private final Image fogTexture;
+
+    private BufferedImage staticFog;  // fill + texture, never touched after baking
+    private BufferedImage work;       // staticFog with the current hole cut out
+    private Graphics2D workGraphics;
+    private int holeX, holeY, holeSize; // area of work that differs from staticFog
+
+    // LRU of reveal masks keyed by quantized radius
+    private final Map<Integer, BufferedImage> masks = new LinkedHashMap<Integer, BufferedImage>(MAX_MASKS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+            if (size() <= MAX_MASKS) return false;
+            eldest.getValue().flush();
+            return true;
+        }
+    };
+
+    public FogLayer(String texturePath) {
+        this.fogTexture = AssetCache.pinImage(texturePath);
+    }
+
+    /**
+     * Draws the fog over a width x height scene with the hole centered on (cx, cy).
+     */
+    public void draw(Graphics g, int width, int height, int cx, int cy, int radius) {
+        if (staticFog == null || staticFog.getWidth() != width || staticFog.getHeight() != height) {
+            bake(width, height);
+        }
+
+        // Patch the previous hole back to plain fog
+        if (holeSize > 0) {
+            workGraphics.setComposite(AlphaComposite.Src);
+            workGraphics.drawImage(staticFog,
+                    holeX, holeY, holeX + holeSize, holeY + holeSize,
+                    holeX, holeY, holeX + holeSize, holeY + holeSize, null);
+        }
+
+        // Erase the new hole with the cached mask
+        int r = Math.max(RADIUS_STEP, Math.round(radius / (float) RADIUS_STEP) * RADIUS_STEP);
+        BufferedImage mask = getMask(r);
+        holeX = cx - r;
+        holeY = cy - r;
+        holeSize = r * 2;
+        workGraphics.setComposite(AlphaComposite.DstOut);
+        workGraphics.drawImage(mask, holeX, holeY, null);
+
+        g.drawImage(work, 0, 0, null);
+    }
+
+    private void bake(int width, int height) {
+        dispose();
+
+        staticFog = CompatibleImages.create(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g2 = staticFog.createGraphics();
+        g2.setColor(FOG_COLOR);
+        g2.fillRect(0, 0, width, height);
+        // overlay fog texture for atmosphere
+        g2.setComposite(AlphaComposite.SrcOver);
+        g2.drawImage(fogTexture, 0, 0, width, height, null);
+        g2.dispose();
+
+        work = CompatibleImages.create(width, height, Transparency.TRANSLUCENT);
+        workGraphics = work.createGraphics();
+        workGraphics.setComposite(AlphaComposite.Src);
+        workGraphics.drawImage(staticFog, 0, 0, null);
+        holeSize = 0;
+    }
+
+    private BufferedImage getMask(int radius) {
+        BufferedImage mask = masks.get(radius);
+        if (mask != null) return mask;
+
+        int size = radius * 2;
+        mask = CompatibleImages.create(size, size, Transparency.TRANSLUCENT);
+        Graphics2D g2 = mask.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        // Center fully opaque (erases the fog), fading out to nothing at the edge
+        RadialGradientPaint gradient = new RadialGradientPaint(
+            new Point(radius, radius),
+            radius,
+            new float[]{0.1f, 0.8f, 1.0f},
+            new Color[]{
+                new Color(0f, 0f, 0f, 1f),
+                new Color(0f, 0f, 0f, 0.1f),
+                new Color(0f, 0f, 0f, 0f)
+            }
+        );
+        g2.setPaint(gradient);
+        // The old fog erased with this gradient twice; two SrcOver passes give
+        // the same 1-(1-a)^2 coverage so one DstOut stamp matches it.
+        g2.fillOval(0, 0, size, size);
+        g2.fillOval(0, 0, size, size);
+        g2.dispose();
+
+        masks.put(radius, mask);
+        return mask;
+    }
+
+    /** Releases the buffers; they are rebuilt on the next draw. */
+    public void dispose() {
+        if (workGraphics != null) workGraphics.dispose();
+        if (work != null) work.flush();
+        if (staticFog != null) staticFog.flush();
+        workGraphics = null;
+        work = staticFog = null;
+        holeSize = 0;
+    }
+}
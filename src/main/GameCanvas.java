@@ -0,0 +1,102 @@
+package main;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+/**
+ * Active-rendering surface for GamePanel.
+ * The game thread draws straight into a page-flipped BufferStrategy
+ * (accelerated VolatileImage back buffers) instead of going through
+ * repaint() and the EDT.
+ *
+ * Pick the renderer with -Dsoulmaze.renderer=active|swing (default active).
+ */
+public class GameCanvas extends Canvas {
+    public static final boolean ENABLED =
+            !"swing".equalsIgnoreCase(System.getProperty("soulmaze.renderer", "active"));
+
+    private BufferStrategy strategy;
+    private boolean failed = false;
+
+    public GameCanvas(int width, int height) {
+        setSize(width, height);
+        setBackground(Color.BLACK);
+        setIgnoreRepaint(true); // we paint it ourselves
+        setFocusable(false);    // keys keep going to GamePanel
+    }
+
+    /**
+     * Draws one frame and flips it to the screen. Called from the game thread.
+     * @return false if the canvas can't present right now (not on screen yet,
+     *         or no buffer strategy could be made) so the caller can fall back
+     */
+    public boolean present(Consumer<Graphics2D> painter) {
+        if (failed || !isDisplayable() || getWidth() <= 0 || getHeight() <= 0) return false;
+
+        BufferStrategy bs = getStrategy();
+        if (bs == null) return false;
+
+        try {
+            // Standard VolatileImage dance: redraw while the contents get restored,
+            // and redo the frame if the surface was lost while flipping.
+            do {
+                do {
+                    Graphics2D g = (Graphics2D) bs.getDrawGraphics();
+                    try {
+                        painter.accept(g);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (bs.contentsRestored());
+                bs.show();
+            } while (bs.contentsLost());
+        } catch (IllegalStateException e) {
+            // component went away between the checks above and the flip
+            disposeStrategy();
+            return false;
+        }
+
+        Toolkit.getDefaultToolkit().sync(); // flush the pipeline so the frame shows now
+        return true;
+    }
+
+    private synchronized BufferStrategy getStrategy() {
+        if (strategy != null) return strategy;
+        try {
+            BufferCapabilities caps = new BufferCapabilities(
+                    new ImageCapabilities(true), new ImageCapabilities(true),
+                    BufferCapabilities.FlipContents.UNDEFINED);
+            try {
+                createBufferStrategy(2, caps);
+            } catch (AWTException e) {
+                // no page flipping here, let AWT pick (accelerated blit strategy)
+                createBufferStrategy(2);
+            }
+            strategy = getBufferStrategy();
+        } catch (Exception e) {
+            System.err.println("Active rendering unavailable, falling back to Swing: " + e.getMessage());
+            failed = true;
+        }
+        return strategy;
+    }
+
+    private synchronized void disposeStrategy() {
+        if (strategy != null) {
+            strategy.dispose();
+            strategy = null;
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        disposeStrategy(); // buffers belong to the old peer
+        super.removeNotify();
+    }
+}
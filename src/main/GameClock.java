@@ -0,0 +1,77 @@
+package main;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+
+/**
+ * Timing settings for the fixed-timestep game loop.
+ * The simulation always advances in TICK_NANOS steps; frames are drawn at
+ * RENDER_RATE and interpolate between the last two ticks.
+ *
+ * All speeds in the game were tuned at 60 ticks per second, so anything that
+ * moves "per tick" is multiplied by TICK_SCALE.
+ */
+public final class GameClock {
+    public static final int BASE_TICK_RATE = 60;
+
+    // -Dsoulmaze.tickRate=120 to run the simulation faster (default 60 Hz)
+    public static final int TICK_RATE = clamp(Integer.getInteger("soulmaze.tickRate", BASE_TICK_RATE), 20, 480);
+    public static final long TICK_NANOS = 1_000_000_000L / TICK_RATE;
+    public static final long TICK_MILLIS = 1000L / TICK_RATE;
+    public static final double TICK_SCALE = BASE_TICK_RATE / (double) TICK_RATE;
+
+    // -Dsoulmaze.fps=144 to cap rendering; 0 = follow the display refresh rate
+    public static final int RENDER_RATE = resolveRenderRate(Integer.getInteger("soulmaze.fps", 0));
+    public static final long FRAME_NANOS = 1_000_000_000L / RENDER_RATE;
+
+    // Longest gap we try to catch up on (stops the spiral of death after a stall)
+    public static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    // Max pixels moved per collision sub-step; half a tile so nothing skips a wall
+    public static final int MAX_SUBSTEP_PX = 5;
+
+    // Below this much remaining time we spin instead of sleeping
+    private static final long SPIN_NANOS = 2_000_000L;
+
+    private GameClock() {}
+
+    /** Converts a per-tick rate tuned at 60 Hz to the current tick rate. */
+    public static double perTick(double valueAt60Hz) {
+        return valueAt60Hz * TICK_SCALE;
+    }
+
+    /** Sleeps until the given System.nanoTime() deadline, spinning for the last couple of ms. */
+    public static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_NANOS) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private static int resolveRenderRate(int requested) {
+        if (requested > 0) return clamp(requested, 30, 500);
+        if (GraphicsEnvironment.isHeadless()) return BASE_TICK_RATE;
+        try {
+            DisplayMode mode = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDisplayMode();
+            int hz = mode.getRefreshRate();
+            if (hz != DisplayMode.REFRESH_RATE_UNKNOWN && hz >= 30) return hz;
+        } catch (Exception e) {
+            System.err.println("Could not read display refresh rate: " + e.getMessage());
+        }
+        return BASE_TICK_RATE;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
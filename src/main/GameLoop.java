@@ -0,0 +1,87 @@
+package main;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Fixed-timestep loop: ticks the simulation at GameClock.TICK_RATE and renders
+ * at GameClock.RENDER_RATE, handing the renderer how far we are between ticks.
+ *
+ * Run with -Dsoulmaze.pacing=true to print tick/frame pacing once a second.
+ */
+public class GameLoop {
+    private static final boolean REPORT_PACING = Boolean.getBoolean("soulmaze.pacing");
+
+    private final BooleanSupplier running;
+    private final Runnable tick;
+    private final DoubleConsumer render;
+
+    // === Pacing stats (reset every report) ===
+    private long windowStart;
+    private int ticksInWindow;
+    private int framesInWindow;
+    private long lastFrame;
+    private double frameSum, frameSumSq;
+    private long frameMin = Long.MAX_VALUE, frameMax;
+
+    /**
+     * @param running checked once per frame; the loop returns when it goes false
+     * @param tick    advances the simulation by exactly one tick
+     * @param render  draws a frame; gets the interpolation factor in [0, 1)
+     */
+    public GameLoop(BooleanSupplier running, Runnable tick, DoubleConsumer render) {
+        this.running = running;
+        this.tick = tick;
+        this.render = render;
+    }
+
+    public void run() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        windowStart = lastFrame = previous;
+
+        while (running.getAsBoolean()) {
+            long now = System.nanoTime();
+            accumulator += Math.min(now - previous, GameClock.MAX_FRAME_NANOS);
+            previous = now;
+
+            // Catch the simulation up in whole ticks
+            while (accumulator >= GameClock.TICK_NANOS) {
+                tick.run();
+                ticksInWindow++;
+                accumulator -= GameClock.TICK_NANOS;
+            }
+
+            render.accept(accumulator / (double) GameClock.TICK_NANOS);
+            if (REPORT_PACING) recordFrame(System.nanoTime());
+
+            GameClock.sleepUntil(now + GameClock.FRAME_NANOS);
+        }
+    }
+
+    private void recordFrame(long now) {
+        long frame = now - lastFrame;
+        lastFrame = now;
+        framesInWindow++;
+        frameSum += frame;
+        frameSumSq += (double) frame * frame;
+        frameMin = Math.min(frameMin, frame);
+        frameMax = Math.max(frameMax, frame);
+
+        long window = now - windowStart;
+        if (window < 1_000_000_000L) return;
+
+        double seconds = window / 1e9;
+        double mean = frameSum / framesInWindow;
+        double sd = Math.sqrt(Math.max(0, frameSumSq / framesInWindow - mean * mean));
+        System.out.printf("[pacing] ticks/s=%.2f (target %d) frames/s=%.1f frame=%.3fms sd=%.3fms min=%.3fms max=%.3fms%n",
+                ticksInWindow / seconds, GameClock.TICK_RATE, framesInWindow / seconds,
+                mean / 1e6, sd / 1e6, frameMin / 1e6, frameMax / 1e6);
+
+        windowStart = now;
+        ticksInWindow = framesInWindow = 0;
+        frameSum = frameSumSq = 0;
+        frameMin = Long.MAX_VALUE;
+        frameMax = 0;
+    }
+}
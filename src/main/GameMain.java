@@ -1,19 +1,53 @@
 package main;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+
 import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
 
 public class GameMain {
 
 	public static void main(String[] args) {
+		StartupTimer.mark("main");
+
+		// Splash first: it needs no assets, so the window shows right away
 		JFrame frame = new JFrame("Soul Maze");
-        MainMenu mainMenu = new MainMenu(frame);
-        frame.add(mainMenu);
-        frame.pack();
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.setVisible(true);
-        frame.setResizable(false);
-        frame.setLocationRelativeTo(null);
+		SplashPanel splash = new SplashPanel();
+		SwingUtilities.invokeLater(() -> {
+			frame.add(splash);
+			frame.pack();
+			frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+			frame.setVisible(true);
+			frame.setResizable(false);
+			frame.setLocationRelativeTo(null);
+			StartupTimer.mark("splash shown");
+		});
+
+		// Menu assets first, decoded in parallel; the rest keeps loading behind the menu
+		AssetPreloader preloader = new AssetPreloader();
+		preloader.load(MainMenu.requiredAssets(), (done, total, asset) -> splash.setProgress(done, total))
+				.whenComplete((ok, error) -> SwingUtilities.invokeLater(() -> {
+					StartupTimer.mark("menu assets ready");
+					MainMenu mainMenu = new MainMenu(frame);
+					frame.getContentPane().removeAll();
+					frame.add(mainMenu);
+					frame.pack();
+					frame.revalidate();
+					frame.repaint();
+				}));
 
+		try {
+			AssetManifest manifest = AssetManifest.scan(Paths.get("src/assets"));
+			int count = manifest.getLoadable().size();
+			preloader.load(manifest.getLoadable(), null).thenRun(() -> {
+				StartupTimer.mark("all " + count + " assets loaded");
+				preloader.shutdown();
+			});
+		} catch (IOException e) {
+			System.err.println("Error scanning assets: " + e.getMessage()); // screens load what they need themselves
+			preloader.shutdown();
+		}
 	}
 
 }
@@ -20,16 +20,16 @@ public class GameOverPanel extends JPanel {
         setOpaque(false); // Transparent overlay
 
         // Load the background image
-        backgroundImage = new ImageIcon("src/assets/Images/GameOverPanel.png").getImage();
+        backgroundImage = AssetCache.pinImage("src/assets/Images/GameOverPanel.png");
 
         // -----------------------------
         // RETRY button (image version)
         // -----------------------------
-        ImageIcon retryIcon = new ImageIcon("src/assets/Images/OverRetryButton.png");
+        ImageIcon retryIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/OverRetryButton.png"));
         Image scaledRetry = retryIcon.getImage().getScaledInstance(150, 150, Image.SCALE_SMOOTH);
         ImageIcon scaledRetryIcon = new ImageIcon(scaledRetry);
 
-        ImageIcon retryHoverIcon = new ImageIcon("src/assets/Images/OverRetryButtonHover.png");
+        ImageIcon retryHoverIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/OverRetryButtonHover.png"));
         Image scaledRetryHover = retryHoverIcon.getImage().getScaledInstance(150, 150, Image.SCALE_SMOOTH);
         ImageIcon scaledRetryHoverIcon = new ImageIcon(scaledRetryHover);
 
@@ -54,11 +54,11 @@ public class GameOverPanel extends JPanel {
         // -----------------------------
         // QUIT button (image version)
         // -----------------------------
-        ImageIcon quitIcon = new ImageIcon("src/assets/Images/OverQuitButton.png");
+        ImageIcon quitIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/OverQuitButton.png"));
         Image scaledQuit = quitIcon.getImage().getScaledInstance(150, 150, Image.SCALE_SMOOTH);
         ImageIcon scaledQuitIcon = new ImageIcon(scaledQuit);
 
-        ImageIcon quitHoverIcon = new ImageIcon("src/assets/Images/OverQuitButtonHover.png");
+        ImageIcon quitHoverIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/OverQuitButtonHover.png"));
         Image scaledQuitHover = quitHoverIcon.getImage().getScaledInstance(150, 150, Image.SCALE_SMOOTH);
         ImageIcon scaledQuitHoverIcon = new ImageIcon(scaledQuitHover);
 
@@ -60,23 +60,32 @@ public class GameOverSequence {
         }).start();
     }
 
-    // --- Simple SFX player ---
+    // --- Simple SFX player; the clip is handed back to the cache when it stops ---
     private static void playSound(String path) {
         new Thread(() -> {
-            try {
-                File file = new File(path);
-                if (!file.exists()) {
-                    System.err.println("GameOverSequence: Sound file not found: " + path);
-                    return;
-                }
+            File file = new File(path);
+            if (!file.exists()) {
+                System.err.println("GameOverSequence: Sound file not found: " + path);
+                return;
+            }
 
-                AudioInputStream audioStream = AudioSystem.getAudioInputStream(file);
-                Clip clip = AudioSystem.getClip();
-                clip.open(audioStream);
-                clip.start();
-            } catch (Exception e) {
-                e.printStackTrace();
+            AssetCache.Handle<Clip> handle = AssetCache.acquireClip(path);
+            Clip clip = handle.get();
+            if (clip == null) {
+                handle.close();
+                return;
             }
+            clip.addLineListener(new LineListener() {
+                @Override
+                public void update(LineEvent event) {
+                    if (event.getType() == LineEvent.Type.STOP) {
+                        clip.removeLineListener(this);
+                        handle.close();
+                    }
+                }
+            });
+            clip.setFramePosition(0);
+            clip.start();
         }).start();
     }
 }
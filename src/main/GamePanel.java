@@ -8,33 +8,47 @@ import java.io.*;
 import java.util.*;
 import java.util.List;
 import java.util.Timer;
+import java.nio.file.Paths;
+import java.util.concurrent.Future;
 
 /**
- * GamePanel handles the main gameplay loop, drawing, and logic.
- * It manages the maze, player, ghost, and checkpoint/question system.
+ * GamePanel runs the game loop, draws the level and feeds it input. The
+ * rules themselves live in GameWorld; the panel reacts to what happens
+ * there (sounds, jumpscares, transitions, saving the score).
  */
-public class GamePanel extends JPanel implements KeyListener, Runnable {
+public class GamePanel extends JPanel implements KeyListener, Runnable, GameWorld.WorldListener {
 	private Thread gameThread;
-    private boolean running = true;
-
-    private Player player;
-    private List<Ghost> ghosts;
-    private Maze maze;
-    private List<Grave> graves;
-    private List<Soul> souls;
+    private volatile boolean running = true;  // false while paused between levels
+    private volatile boolean alive = true;    // false once the panel is thrown away
+    private final Object loopLock = new Object();
+    private volatile double renderAlpha = 1.0; // how far the last frame was between two ticks
+
+    private volatile GameWorld world; // the level being played
+    // Input: key events queue up in the ring and are drained at the start of each tick
+    private final InputRing input = new InputRing();
+    private final InputLatency latency = InputLatency.ENABLED ? new InputLatency() : null;
+    private long tickStartNanos;
+    private ReplayRecorder recorder; // null unless -Dsoulmaze.recordDir is set
     private LevelManager levelManager;
-    private boolean gameOver = false;
-    private boolean levelCompleted = false;
-    private Image fogImage = new ImageIcon("src/assets/Images/fog.png").getImage();
+    // Each tick publishes a snapshot of the world; frames draw only from snapshots
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private final WorldRenderer renderer = new WorldRenderer();
+    private String levelDescription;
     private int fogRadius = 180; // radius around player to clear
     private double fogPulse = 0;
     private AudioManager audioManager;
     private Jumpscare jumpscare;
     private String playerName; // Default player name
-    private boolean heartbeatBleeding = false;
     private Point girlJumpscareSpot;
     private long nextJumpscareTime;
-    private Random rand = new Random();
+    private Random rand; // jumpscares only; the world has its own stream
+    private GameCanvas canvas; // active renderer, null when using the Swing path
+
+    // Level swaps: the next state is built while the transition / game over screen plays
+    private volatile Future<LevelState> pendingLevel;
+    private long levelEndNanos;     // when the last level ended (complete or game over)
+    private long swapStartNanos;    // when the transition handed control back
+    private volatile boolean firstFramePending;
     // === Constructor ===
     public GamePanel(LevelManager levelManager, String playerName) {
         if (playerName == null || playerName.trim().isEmpty()) {
@@ -45,9 +59,18 @@ public class GamePanel extends JPanel implements KeyListener, Runnable {
         setFocusable(true);
         addKeyListener(this);
 
+        // Active rendering: the game thread draws into a page-flipped canvas
+        if (GameCanvas.ENABLED) {
+            setLayout(null);
+            canvas = new GameCanvas(1200, 780);
+            canvas.setBounds(0, 0, 1200, 780);
+            add(canvas);
+        }
+
         // Use provided level manager or create new one
         this.levelManager = levelManager;
         this.playerName = playerName;
+        this.rand = new Random(~levelManager.getRunSeed());
         System.out.println("GamePanel initialized with player name: " + this.playerName);
         // --- Audio setup ---
         audioManager = new AudioManager();
@@ -56,132 +79,192 @@ public class GamePanel extends JPanel implements KeyListener, Runnable {
         jumpscare.attachToPanel(this);
         // Load BGM
         audioManager.loadBackgroundMusic("src/assets/Music/Gameplay.wav");
-        audioManager.fadeInBackgroundMusic(2000, true); // loop gameplay BGM
 
         // Load heartbeats
         audioManager.loadSFX("heartbeatNormal", "src/assets/Music/HeartbeatNormal.wav");
         audioManager.loadSFX("heartbeatFast", "src/assets/Music/HeartbeatFast.wav");
 
-        // Play normal heartbeat immediately
-        heartbeatBleeding = false; // ensure state is consistent
-        audioManager.playSFX("heartbeatNormal", true); // looped
+        // Initialize core game objects (also starts the music)
+        applyLevel(LevelState.build(levelManager, levelManager.getCurrentLevel()));
         
-        // Initialize core game objects
-        initializeLevel();
-     // Jumpscare setup
-        girlJumpscareSpot = maze.getRandomOpenTile();
-        scheduleNextJumpscare();
-        
-        // Start main game loop
-        gameThread = new Thread(this);
+        // Start main game loop; it lives as long as the panel, across levels
+        gameThread = new Thread(this, "game-loop");
+        gameThread.setDaemon(true);
         gameThread.start();
 
         // Make sure panel gets keyboard focus
         requestFocusInWindow();
     }
     
-    private void initializeLevel() {
-        maze = new Maze();
-        
-        // Find spawn points from the maze
-        Point playerSpawn = maze.getPlayerSpawn();
-        Point ghostSpawn = maze.getGhostSpawn();
-        
-        // Fallback defaults if not found
-        if (playerSpawn == null) playerSpawn = new Point(640, 400);
-        if (ghostSpawn == null) ghostSpawn = new Point(100, 100);
+    /**
+     * Swaps in a level's state and restarts everything that belongs to a
+     * level (music, heartbeat, fog, jumpscare spot). Runs on the EDT, or in
+     * the constructor before the game thread exists; the loop is paused.
+     */
+    private void applyLevel(LevelState state) {
+        world = new GameWorld(state, levelManager, this);
+        input.clear();
+        recorder = ReplayRecorder.RECORD_DIR != null ? new ReplayRecorder(levelManager, world) : null;
+        levelDescription = levelManager.getLevelDescription();
+        fogRadius = 180;
+        fogPulse = 0;
+        renderAlpha = 1.0;
+
+        audioManager.stopSFX("heartbeatFast");
+        audioManager.fadeInBackgroundMusic(2000, true); // loop gameplay BGM
+        // Play normal heartbeat immediately
+        audioManager.playSFX("heartbeatNormal", true); // looped
 
-        // Initialize player
-        player = new Player(playerSpawn.x, playerSpawn.y, maze);
-        
-        // Initialize ghosts based on level with specific positions
-        ghosts = new ArrayList<>();
-        int ghostCount = levelManager.getGhostCount();
-        
-        // Define specific ghost spawn positions (adjusted to avoid walls)
-        Point[] ghostPositions = {
-            new Point(10, 50),      // Upper left (safer position)
-            new Point(1120, 50),     // Upper right (safer position)
-            new Point(600, 650)      // Lower middle (safer position)
-        };
-        
-        for (int i = 0; i < ghostCount; i++) {
-            Point ghostPos = ghostPositions[i];
-            
-            // Ensure ghost doesn't spawn on wall
-            int col = ghostPos.x / maze.tileSize;
-            int row = ghostPos.y / maze.tileSize;
-            
-            // If position is on wall, find nearest valid position
-            if (maze.isWall(row, col)) {
-                // Try to find a nearby valid position
-                boolean foundValid = false;
-                for (int offset = 1; offset <= 5 && !foundValid; offset++) {
-                    for (int dr = -offset; dr <= offset && !foundValid; dr++) {
-                        for (int dc = -offset; dc <= offset && !foundValid; dc++) {
-                            int newRow = row + dr;
-                            int newCol = col + dc;
-                            if (!maze.isWall(newRow, newCol)) {
-                                ghostPos = new Point(newCol * maze.tileSize, newRow * maze.tileSize);
-                                foundValid = true;
-                            }
-                        }
-                    }
-                }
-            }
-            
-            ghosts.add(new Ghost(ghostPos.x, ghostPos.y, maze));
+        // Jumpscare setup
+        scheduleNextJumpscare();
+
+        // Build the next level while this one is played
+        levelManager.prefetchNextLevel();
+        publishSnapshot(); // first frame; the loop is parked, so this thread is the only writer
+        if (canvas != null) canvas.setVisible(true);
+        resume();
+    }
+
+    private void resume() {
+        synchronized (loopLock) {
+            running = true;
+            loopLock.notifyAll();
         }
-        
-        // Generate souls and graves based on level
-        int soulsPerLevel = levelManager.getSoulsPerLevel();
-        graves = Grave.generateGraves(maze, soulsPerLevel);
-        souls = Soul.generateSouls(maze, graves);
+    }
+
+    /** Stops the game thread for good and releases the panel's sounds and images. */
+    public void shutdown() {
+        synchronized (loopLock) {
+            alive = false;
+            running = false;
+            loopLock.notifyAll();
+        }
+        audioManager.cleanup();
+        jumpscare.dispose();
+    }
+
+    /**
+     * Puts the panel back in the frame with {@code pendingLevel} swapped in.
+     * The state was built while the transition played, so this normally
+     * doesn't wait.
+     */
+    private void startPendingLevel(JFrame parentFrame) {
+        Future<LevelState> pending = pendingLevel;
+        if (pending == null) return; // already started (e.g. retry clicked twice)
+        pendingLevel = null;
+        swapStartNanos = System.nanoTime();
+
+        LevelState state;
+        try {
+            if (!pending.isDone()) System.err.println("[levels] next level not built yet, waiting");
+            state = pending.get();
+        } catch (Exception e) {
+            System.err.println("Error building level: " + e);
+            state = null;
+        }
+        if (state == null || state.getLevel() != levelManager.getCurrentLevel()) {
+            // build failed, or the level number was capped at the last level
+            state = LevelState.build(levelManager, levelManager.getCurrentLevel());
+        }
+
+        parentFrame.getContentPane().removeAll();
+        parentFrame.add(this);
+        parentFrame.pack();
+        parentFrame.revalidate();
+        parentFrame.repaint();
+
+        firstFramePending = true;
+        applyLevel(state);
+        requestFocusInWindow();
+    }
+
+    // Logs level end -> first frame of the next level, once per swap
+    private void logFirstFrame() {
+        if (!firstFramePending) return;
+        firstFramePending = false;
+        long now = System.nanoTime();
+        System.out.printf("[levels] level %d: level end -> first playable frame %.0f ms (swap %.1f ms)%n",
+                levelManager.getCurrentLevel(), (now - levelEndNanos) / 1e6, (now - swapStartNanos) / 1e6);
     }
 
     // === Game Loop ===
     @Override
     public void run() {
-        while (running) {
-            update();
-            repaint();
-            try {
-                Thread.sleep(16); // ~60 FPS
-            } catch (InterruptedException ignored) {}
+        while (alive) {
+            new GameLoop(() -> running && alive, this::tick, alpha -> {
+                renderAlpha = alpha;
+                if (canvas == null || !canvas.present(g -> render(g, alpha))) {
+                    repaint();
+                } else if (latency != null) {
+                    latency.presented(snapshots.latest()); // the snapshot just shown
+                }
+                logFirstFrame();
+            }).run();
+
+            // Loop stopped (game over / level done): let Swing paint the last frame
+            // so overlays like the glass pane aren't hidden behind the canvas.
+            if (canvas != null && alive) {
+                SwingUtilities.invokeLater(() -> {
+                    if (!running) canvas.setVisible(false);
+                    repaint();
+                });
+            }
+
+            // Park until the next level (or retry) is swapped in
+            synchronized (loopLock) {
+                while (alive && !running) {
+                    try {
+                        loopLock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
         }
     }
 
-    // === Game Logic ===
-    private void update() {
-        if (gameOver || levelCompleted) return;
+    /** One fixed simulation step (GameClock.TICK_NANOS long), then a snapshot for the renderer. */
+    private void tick() {
+        step();
+        publishSnapshot();
+    }
 
-        // --- Fog & player update ---
-        fogPulse += 0.05;
+    private void publishSnapshot() {
+        GameWorld w = world;
+        boolean victory = w.isLevelCompleted() && levelManager.isGameCompleted();
+        RenderSnapshot s = snapshots.back();
+        s.capture(w, fogRadius, levelDescription, levelManager.getScore(), victory);
+        if (latency != null) {
+            s.inputNanos = input.getOldestDrained();
+            s.tickNanos = tickStartNanos;
+        }
+        snapshots.publish();
+    }
+
+    private void step() {
+        tickStartNanos = latency != null ? System.nanoTime() : 0;
+        int keys = input.nextTickInput(); // every key event since the last tick, applied now
+        GameWorld w = world;
+        if (w.isFinished()) {
+            w.tick(0); // just settles interpolation
+            return;
+        }
+        Player player = w.getPlayer();
+
+        // --- Fog ---
+        fogPulse += GameClock.perTick(0.05);
         int baseRadius = 150;
         int targetRadius = player.isHoldingSoul() ? baseRadius + 60 + (int)(Math.sin(fogPulse) * 20)
                                                   : baseRadius + (int)(Math.sin(fogPulse) * 10);
-        fogRadius += (targetRadius - fogRadius) * 0.1;
-        player.update();
-
-     // --- Ghost updates & collision ---
-        for (Ghost ghost : ghosts) {
-            ghost.update(player);
-
-            if (ghost.collidesWith(player)) {
-                if (player.canBeHit()) {
-                    player.collideWithGhost(); // triggers bleeding or death
-                    if (player.isDead()) {
-                        handleGameOver();
-                    } else if (player.isBleeding()) {
-                        System.out.println("Player hit! Speed reduced to " + player.speed);
-                    }
-                }
-                // else: still immune, ignore collision
-            }
+        fogRadius += (targetRadius - fogRadius) * (1 - Math.pow(0.9, GameClock.TICK_SCALE));
+
+        if (recorder != null) recorder.record(keys);
+        w.tick(keys);
+        if (w.isFinished()) {
+            if (recorder != null) recorder.save(Paths.get(ReplayRecorder.RECORD_DIR), w, levelManager);
+            return;
         }
-        
-        updateHeartbeat();
-        
+
         // --- Trigger girl jumpscare when player is near her spot ---
         if (girlJumpscareSpot != null && !jumpscare.isActive()) {
             double dx = player.x - girlJumpscareSpot.x;
@@ -193,11 +276,42 @@ public class GamePanel extends JPanel implements KeyListener, Runnable {
                 scheduleNextJumpscare(); // move to a new random spot
             }
         }
-        
-        // --- Check level completion ---
-        if (levelManager.isLevelCompleted(graves)) {
-            handleLevelCompletion();
+    }
+
+    // === World events (all on the game thread) ===
+    @Override
+    public void onPlayerHit(Player player) {
+        System.out.println("Player hit! Speed reduced to " + player.speed);
+    }
+
+    @Override
+    public void onPlayerDied(Player player) {
+        handleGameOver();
+    }
+
+    @Override
+    public void onBleedingChanged(boolean bleeding) {
+        // Stop both heartbeats
+        audioManager.stopSFX("heartbeatNormal");
+        audioManager.stopSFX("heartbeatFast");
+
+        // Play correct heartbeat loop
+        if (bleeding) {
+            // === Trigger skull jumpscare once when bleeding starts ===
+            if (!jumpscare.isActive()) {
+                jumpscare.trigger("skull");
+            }
+            audioManager.playSFX("heartbeatFast", true);
+        } else {
+            audioManager.playSFX("heartbeatNormal", true);
         }
+
+        System.out.println("Switched heartbeat to " + (bleeding ? "Fast" : "Normal"));
+    }
+
+    @Override
+    public void onLevelCompleted(int level) {
+        handleLevelCompletion();
     }
 
     private void handleGameOver() {
@@ -206,22 +320,19 @@ public class GamePanel extends JPanel implements KeyListener, Runnable {
     audioManager.fadeOutSFX("heartbeatNormal", 1000);
     audioManager.fadeOutSFX("heartbeatFast", 1000);
 
-    gameOver = true;
     running = false;
-
-    if (gameThread != null && gameThread.isAlive()) {
-        try {
-            gameThread.join(100);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
+    levelEndNanos = System.nanoTime();
+    // This runs on the game thread itself, so there's nothing to join;
+    // the loop stops when this tick returns.
 
     // --- Save player score ---
     int finalScore = levelManager.getScore();
     ScoreManager.saveScore(playerName, finalScore);
     System.out.println("Game Over! Final score for " + playerName + ": " + finalScore);
 
+    // Rebuild the level for a retry while the game over sequence plays
+    pendingLevel = LevelState.buildAsync(levelManager, levelManager.getCurrentLevel());
+
     // --- Show Game Over Sequence ---
     SwingUtilities.invokeLater(() -> {
         JFrame parentFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
@@ -230,24 +341,18 @@ public class GamePanel extends JPanel implements KeyListener, Runnable {
             return;
         }
 
-        // Use your existing GameOverSequence class
+        // Show 9-second GIF + SFX before showing the GameOverPanel
         GameOverSequence.show(parentFrame, new GameOverPanel.GameOverListener() {
             @Override
             public void onRetry() {
                 audioManager.fadeOutSFX("heartbeatNormal", 1000);
                 audioManager.fadeOutSFX("heartbeatFast", 1000);
-
-                parentFrame.getContentPane().removeAll();
-                GamePanel retryPanel = new GamePanel(levelManager, playerName);
-                parentFrame.add(retryPanel);
-                parentFrame.pack();
-                parentFrame.revalidate();
-                parentFrame.repaint();
-                retryPanel.requestFocusInWindow();
+                startPendingLevel(parentFrame);
             }
 
             @Override
             public void onQuit() {
+                shutdown();
                 parentFrame.getContentPane().removeAll();
                 MainMenu menuPanel = new MainMenu(parentFrame);
                 parentFrame.add(menuPanel);
@@ -257,39 +362,10 @@ public class GamePanel extends JPanel implements KeyListener, Runnable {
             }
         });
     });
-
-        // ...existing code...
-SwingUtilities.invokeLater(() -> {
-    JFrame parentFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
-GameOverPanel.GameOverListener listener = new GameOverPanel.GameOverListener() {
-    public void onRetry() {
-        parentFrame.getContentPane().removeAll();
-        GamePanel retryPanel = new GamePanel(levelManager, playerName);
-        parentFrame.add(retryPanel);
-        parentFrame.pack();
-        parentFrame.revalidate();
-        parentFrame.repaint();
-        retryPanel.requestFocusInWindow();
-    }
-
-    public void onQuit() {
-        parentFrame.getContentPane().removeAll();
-        MainMenu menuPanel = new MainMenu(parentFrame);
-        parentFrame.add(menuPanel);
-        parentFrame.pack();
-        parentFrame.revalidate();
-        parentFrame.repaint();
-    }
-};
-
-// Show 9-second GIF + SFX before showing the GameOverPanel
-GameOverSequence.show(parentFrame, listener);
-});
     }
     
     private void handleLevelCompletion() {
-        levelCompleted = true;
-        levelManager.addScore(100); // Bonus points for completing level
+        levelEndNanos = System.nanoTime();
         // Stop both heartbeats
         audioManager.fadeOutBackgroundMusic(2000);
         audioManager.fadeOutSFX("heartbeatNormal",2000);
@@ -298,7 +374,6 @@ GameOverSequence.show(parentFrame, listener);
         // Check if game is completed
         if (levelManager.isGameCompleted()) {
             // Game completed - show victory screen
-            gameOver = true;
             running = false;
         } else {
         	// Show level up transition when advancing to levels 2-18
@@ -309,7 +384,10 @@ GameOverSequence.show(parentFrame, listener);
         	        // Wait for jumpscare to finish before transition
         	        jumpscare.setOnFinish(() -> {
         	            System.out.println("😈 Jumpscare finished — proceeding to level up transition!");
-        	            SwingUtilities.invokeLater(this::showLevelUpTransition);
+        	            SwingUtilities.invokeLater(() -> {
+        	                stopForLevelUp();
+        	                showLevelUpTransition();
+        	            });
         	        });
 
         	        jumpscare.trigger("smile");
@@ -317,18 +395,25 @@ GameOverSequence.show(parentFrame, listener);
         	    }
 
         	    // No jumpscare triggered, continue as normal
-        	    showLevelUpTransition();
+        	    stopForLevelUp();
+        	    SwingUtilities.invokeLater(this::showLevelUpTransition);
         	} else {
-        	    showLevelUpTransition();
+        	    stopForLevelUp();
+        	    SwingUtilities.invokeLater(this::showLevelUpTransition);
         	}
         }
     }
     
-    
-    private void showLevelUpTransition() {
-        // Stop the game loop temporarily
+    /** Stops the loop (from inside the tick, on the game thread) and starts building the next level. */
+    private void stopForLevelUp() {
         running = false;
-        
+
+        // Build the next level while the transition fades in and out
+        pendingLevel = LevelState.buildAsync(levelManager, levelManager.getCurrentLevel() + 1);
+    }
+
+    /** Swaps the frame over to the level-up panel; EDT only. */
+    private void showLevelUpTransition() {
         // Get parent frame before removing this panel
         JFrame parentFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
         
@@ -337,8 +422,9 @@ GameOverSequence.show(parentFrame, listener);
         TransitionPanel transitionPanel = new TransitionPanel(parentFrame, "src/assets/Images/levelUpPanel.png", new Runnable() {
             @Override
             public void run() {
-                // Transition complete, create new GamePanel for next level
-                createNextLevel(parentFrame);
+                // Transition complete, bring this panel back with the next level
+                levelManager.nextLevel();
+                startPendingLevel(parentFrame);
             }
         });
         parentFrame.add(transitionPanel);
@@ -346,225 +432,40 @@ GameOverSequence.show(parentFrame, listener);
         parentFrame.revalidate();
         parentFrame.repaint();
     }
-    
-    private void createNextLevel(JFrame parentFrame) {
-        // Advance to next level
-        levelManager.nextLevel();
-        
-        // Create new GamePanel for the next level with the same level manager
-        parentFrame.getContentPane().removeAll();
-        GamePanel nextLevelPanel = new GamePanel(levelManager, playerName);
-        parentFrame.add(nextLevelPanel);
-        parentFrame.pack();
-        parentFrame.revalidate();
-        parentFrame.repaint();
-        
-        // Request focus for keyboard input
-        nextLevelPanel.requestFocusInWindow();
-    }
 
     // === Drawing ===
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        if (canvas != null && canvas.isVisible()) return; // game thread paints the canvas
+        render(g, renderAlpha);
+        if (latency != null) latency.presented(snapshots.latest());
+    }
 
-        maze.draw(g);
-        
-        // Draw all ghosts
-        for (Ghost ghost : ghosts) {
-            ghost.draw(g);
-        }
-        
-        for (Grave grave : graves) {
-            grave.draw(g);
-        }
-        player.draw(g);
-        
-        // === Draw fog overlay ===
-        drawFog(g);
-        if (gameOver) {
-            g.setColor(Color.RED);
-            g.setFont(new Font("Arial", Font.BOLD, 40));
-            if (levelManager.isGameCompleted()) {
-                g.drawString("VICTORY!", 500, 380);
-            } else {
-                g.drawString("GAME OVER", 480, 380);
-            }
-        }
-        for (Soul s : souls) {
-            s.update();
-            s.draw(g);
-        }
-                Graphics2D g2 = (Graphics2D) g;
-
-        g2.setFont(new Font("Chiller", Font.BOLD, 20));
-
-        // Bloody red gradient
-        GradientPaint gp = new GradientPaint(0, 0, Color.RED, 0, 50, Color.BLACK, true);
-        g2.setPaint(gp);
-
-        // Add shadow for creepiness
-        g2.drawString("Score: " + levelManager.getScore(), 20, 30);
-        g2.drawString(levelManager.getLevelDescription(), 20, 50);
-        g2.setColor(Color.RED);
-        g2.drawString("Score: " + levelManager.getScore(), 19, 29);
-        g2.drawString(levelManager.getLevelDescription(), 19, 49);
-        
-       
- 
+    /**
+     * Draws one full frame from the latest snapshot; used by both the canvas
+     * (game thread) and the Swing path (EDT), never both at once.
+     */
+    private void render(Graphics g, double alpha) {
+        renderer.render(g, snapshots.latest(), alpha, getWidth(), getHeight());
         jumpscare.draw(g, getWidth(), getHeight());
     }
 
     // === Input Handling ===
     @Override
     public void keyPressed(KeyEvent e) {
-        player.keyPressed(e);
-        if (e.getKeyCode() == KeyEvent.VK_SPACE) {
-            handleSoulInteraction();
-        }
-        
+        input.keyPressed(e.getKeyCode()); // applied at the start of the next tick
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
-        player.keyReleased(e);
+        input.keyReleased(e.getKeyCode());
     }
 
     @Override
     public void keyTyped(KeyEvent e) {}
     
     
-    private void handleSoulInteraction() {
-        if (player == null || maze == null) return;
-
-        // --- PICKUP logic ---
-        if (!player.isHoldingSoul()) {
-            for (Soul soul : souls) {
-                if (player.getBounds().intersects(soul.getBounds())) {
-                    player.pickUpSoul(soul);
-                    souls.remove(soul);
-                    break;
-                }
-            }
-            return;
-        }
-
-        // --- DROPPING logic ---
-        Soul held = player.getHeldSoul();
-        Rectangle playerRect = player.getBounds();
-
-        // Check if dropped on grave
-        for (Iterator<Grave> it = graves.iterator(); it.hasNext();) {
-            Grave grave = it.next();
-            if (playerRect.intersects(grave.getBounds())) {
-                if (grave.getColor().equals(held.getColor())) {
-                    // Correct match
-                    it.remove(); // remove grave
-                    player.removeHeldSoul();
-                    levelManager.addScore(50); // Points for correct match
-                } else {
-                    // Wrong grave ' soul respawns elsewhere
-                    player.removeHeldSoul();
-                    Soul.respawn(held, maze);
-                    souls.add(held);
-                }
-                return;
-            }
-        }
-
-        // --- Dropping on empty space ---
-        int row = player.y / maze.tileSize;
-        int col = player.x / maze.tileSize;
-        if (!maze.isWall(row, col)) {
-            held.setPosition(player.x, player.y);
-            souls.add(held);
-            player.removeHeldSoul();
-        }
-    }
-    
-    private void drawFog(Graphics g) {
-        int w = getWidth();
-        int h = getHeight();
-
-        // Create a transparent buffer
-        BufferedImage fogLayer = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = fogLayer.createGraphics();
-
-        // Draw the fog background (semi-transparent dark layer)
-        g2.setColor(new Color(0, 0, 0, 210)); // 210 = dark but not fully opaque
-        g2.fillRect(0, 0, w, h);
-
-        // Optional: overlay fog texture for atmosphere
-        g2.setComposite(AlphaComposite.SrcOver);
-        g2.drawImage(fogImage, 0, 0, w, h, null);
-
-     // === Smooth circular reveal around player (center clear ' edge dark) ===
-        int px = player.x + player.size / 2;
-        int py = player.y + player.size / 2;
-        int radius = fogRadius;
-
-        // The gradient starts fully transparent (clear) in the center, and darkens toward the edge
-        RadialGradientPaint gradient = new RadialGradientPaint(
-            new Point(px, py),
-            radius,
-            new float[]{0.1f, 0.8f, 1.0f},
-            new Color[]{
-                new Color(0f, 0f, 0f, 1f),   // 0.0 ' fully opaque black (we'll "erase" this later)
-                new Color(0f, 0f, 0f, 0.1f), // middle fade
-                new Color(0f, 0f, 0f, 0f)    // 1.0 ' transparent outer edge
-            }
-        );
-
-        // Use this gradient as the 'erase' mask
-        g2.setPaint(gradient);
-        g2.setComposite(AlphaComposite.DstOut);
-        g2.fillOval(px - radius, py - radius, radius * 2, radius * 2);
-
-        // Use the gradient as an erase mask
-        g2.setPaint(gradient);
-        g2.setComposite(AlphaComposite.DstOut);
-        g2.fillOval(px - radius, py - radius, radius * 2, radius * 2);
-
-        g2.dispose();
-
-        // Draw the fog layer over the main scene
-        g.drawImage(fogLayer, 0, 0, null);
-        
-     // --- Overlay bleeding effect ---
-        if (player.isBleeding()) {
-            Graphics2D g2d = (Graphics2D) g.create();
-            g2d.setColor(new Color(255, 0, 0, 80)); // Red with alpha 80 (out of 255)
-            g2d.fillRect(0, 0, getWidth(), getHeight());
-            g2d.dispose();
-        }
-    }
-    
-    private void updateHeartbeat() {
-    	if (gameOver || levelCompleted) return;
-        boolean shouldBeBleeding = player.isBleeding();
-
-        if (shouldBeBleeding != heartbeatBleeding) {
-            // State changed: switch heartbeat
-            heartbeatBleeding = shouldBeBleeding;
-
-         // Stop both heartbeats
-            audioManager.stopSFX("heartbeatNormal");
-            audioManager.stopSFX("heartbeatFast");
-
-            // Play correct heartbeat loop
-            if (heartbeatBleeding) {
-            	// === Trigger skull jumpscare once when bleeding starts ===
-                if (!jumpscare.isActive()) {
-                    jumpscare.trigger("skull");
-                }
-                audioManager.playSFX("heartbeatFast", true);
-            } else {
-                audioManager.playSFX("heartbeatNormal", true);
-            }
-
-            System.out.println("Switched heartbeat to " + (heartbeatBleeding ? "Fast" : "Normal"));
-        }
-    }
     
  // Schedule the next jumpscare and pick a centered open spot
     private void scheduleNextJumpscare() {
@@ -577,35 +478,15 @@ GameOverSequence.show(parentFrame, listener);
 
     // Picks an open tile with space on all sides (not touching walls)
     private Point getCentralOpenTile() {
-        int attempts = 0;
-        while (attempts < 1000) {
-            Point p = maze.getRandomOpenTile();
-            int row = p.y / maze.tileSize;
-            int col = p.x / maze.tileSize;
-
-            // Check surrounding tiles to ensure it's not near walls
-            boolean safe = true;
-            for (int dr = -1; dr <= 1; dr++) {
-                for (int dc = -1; dc <= 1; dc++) {
-                    if (maze.isWall(row + dr, col + dc)) {
-                        safe = false;
-                        break;
-                    }
-                }
-                if (!safe) break;
-            }
-
-            if (safe) {
-                // Offset to the center of the tile
-                return new Point(col * maze.tileSize + maze.tileSize / 2,
-                                 row * maze.tileSize + maze.tileSize / 2);
-            }
-
-            attempts++;
+        Maze maze = world.getMaze();
+        PlacementIndex index = maze.getPlacementIndex();
+        int tile = PlacementIndex.pick(index.clearTiles(1), rand);
+        if (tile < 0) {
+            return maze.getRandomOpenTile(rand); // fallback (should rarely happen)
         }
-
-        // fallback (should rarely happen)
-        return maze.getRandomOpenTile();
+        // Offset to the center of the tile
+        return new Point(index.colOf(tile) * maze.tileSize + maze.tileSize / 2,
+                         index.rowOf(tile) * maze.tileSize + maze.tileSize / 2);
     }
     
     private int durationAfterJumpscare() {
@@ -0,0 +1,204 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The rules of one level, with nothing to do with the screen: the player,
+ * ghosts, souls and graves, hits and bleeding, soul pickup and delivery,
+ * scoring and level completion.
+ *
+ * The world only moves when tick() is called, and it keeps its own clock
+ * (ticks * GameClock.TICK_NANOS), so it runs just as well at real time
+ * behind GamePanel as flat out in HeadlessRunner. Input arrives as one
+ * PlayerInput mask per tick and randomness comes from the level's seeded
+ * stream, so the same seed and masks replay the same game.
+ *
+ * Anything the screen or the speakers care about is reported through a
+ * WorldListener; the world never touches Swing, sound or frames.
+ */
+public class GameWorld {
+    /** Things that happened during a tick; all optional. */
+    public interface WorldListener {
+        /** A ghost hit the player and they're now bleeding. */
+        default void onPlayerHit(Player player) {}
+        /** Second hit; the world stops after this. */
+        default void onPlayerDied(Player player) {}
+        default void onBleedingChanged(boolean bleeding) {}
+        default void onSoulPickedUp(Soul soul) {}
+        default void onSoulDelivered(Soul soul, Grave grave) {}
+        /** Dropped on a grave of another color; the soul has respawned elsewhere. */
+        default void onWrongGrave(Soul soul, Grave grave) {}
+        /** Last grave filled; the world stops after this. */
+        default void onLevelCompleted(int level) {}
+    }
+
+    public static final int DELIVERY_POINTS = 50;
+    public static final int LEVEL_POINTS = 100;
+
+    private final int level;
+    private final Maze maze;
+    private final Player player;
+    private final List<Ghost> ghosts;
+    private final List<Grave> graves;
+    private final List<Soul> souls;
+    private final SpatialGrid<Ghost> ghostIndex;
+    private final SpatialGrid<Grave> graveIndex;
+    private final SpatialGrid<Soul> soulIndex;
+    private final List<Ghost> ghostHits = new ArrayList<>(); // reused every tick
+    private final LevelManager levelManager;
+    private final WorldListener listener;
+    private final long seed;
+    private final Random random;
+
+    private long ticks;
+    private boolean gameOver;
+    private boolean levelCompleted;
+    private boolean bleeding;
+
+    public GameWorld(LevelState state, LevelManager levelManager, WorldListener listener) {
+        this.level = state.getLevel();
+        this.maze = state.getMaze();
+        this.player = state.getPlayer();
+        this.ghosts = state.getGhosts();
+        this.graves = state.getGraves();
+        this.souls = state.getSouls();
+        this.ghostIndex = state.getGhostIndex();
+        this.graveIndex = state.getGraveIndex();
+        this.soulIndex = state.getSoulIndex();
+        this.seed = state.getSeed();
+        this.random = state.getRandom();
+        this.levelManager = levelManager;
+        this.listener = listener != null ? listener : new WorldListener() {};
+    }
+
+    // === Getters ===
+    public int getLevel() { return level; }
+    public Maze getMaze() { return maze; }
+    public Player getPlayer() { return player; }
+    public List<Ghost> getGhosts() { return ghosts; }
+    public List<Grave> getGraves() { return graves; }
+    public List<Soul> getSouls() { return souls; }
+    public long getTicks() { return ticks; }
+    public long getSeed() { return seed; }
+    public boolean isGameOver() { return gameOver; }
+    public boolean isLevelCompleted() { return levelCompleted; }
+    /** Player died or level done: tick() does nothing any more. */
+    public boolean isFinished() { return gameOver || levelCompleted; }
+
+    /** Simulation time in milliseconds; what every timer in the rules runs on. */
+    public long getTimeMillis() {
+        return ticks * GameClock.TICK_NANOS / 1_000_000L;
+    }
+
+    // === Simulation ===
+    /**
+     * Advances the world by one fixed tick (GameClock.TICK_NANOS) with
+     * {@code input} (PlayerInput bits) held. The action bit interacts once,
+     * before anything moves.
+     */
+    public void tick(int input) {
+        player.savePosition();
+        for (Ghost ghost : ghosts) {
+            ghost.savePosition();
+        }
+        if (isFinished()) return;
+        player.setMoving((input & PlayerInput.UP) != 0, (input & PlayerInput.DOWN) != 0,
+                (input & PlayerInput.LEFT) != 0, (input & PlayerInput.RIGHT) != 0);
+        if ((input & PlayerInput.ACTION) != 0) interact();
+        ticks++;
+        long now = getTimeMillis();
+
+        player.update(now);
+        for (Soul s : souls) {
+            s.update();
+        }
+
+        // --- Ghost updates & collision ---
+        for (Ghost ghost : ghosts) {
+            ghost.update(player);
+            ghostIndex.move(ghost, ghost.x, ghost.y);
+        }
+
+        // Only ghosts near the player can hit it
+        ghostHits.clear();
+        ghostIndex.query(player.x, player.y, player.size, player.size, ghostHits);
+        for (Ghost ghost : ghostHits) {
+            if (!ghost.collidesWith(player) || !player.canBeHit(now)) continue; // still immune
+            player.collideWithGhost(now); // triggers bleeding or death
+            if (player.isDead()) {
+                gameOver = true;
+                listener.onPlayerDied(player);
+                return;
+            }
+            listener.onPlayerHit(player);
+        }
+
+        if (player.isBleeding() != bleeding) {
+            bleeding = player.isBleeding();
+            listener.onBleedingChanged(bleeding);
+        }
+
+        // --- Check level completion ---
+        if (levelManager.isLevelCompleted(graves)) {
+            levelCompleted = true;
+            levelManager.addScore(LEVEL_POINTS); // Bonus points for completing level
+            listener.onLevelCompleted(level);
+        }
+    }
+
+    // The interact key: picks up a soul the player overlaps, or drops the
+    // held one (on a grave if there is one under the player)
+    private void interact() {
+        if (isFinished()) return;
+
+        // --- PICKUP logic ---
+        if (!player.isHoldingSoul()) {
+            Soul soul = soulIndex.first(player.x, player.y, player.size, player.size);
+            if (soul != null) {
+                player.pickUpSoul(soul);
+                souls.remove(soul);
+                soulIndex.remove(soul);
+                listener.onSoulPickedUp(soul);
+            }
+            return;
+        }
+
+        // --- DROPPING logic ---
+        Soul held = player.getHeldSoul();
+
+        // Check if dropped on grave
+        Grave grave = graveIndex.first(player.x, player.y, player.size, player.size);
+        if (grave != null) {
+            player.removeHeldSoul();
+            if (grave.getColor().equals(held.getColor())) {
+                // Correct match
+                graves.remove(grave);
+                graveIndex.remove(grave);
+                levelManager.addScore(DELIVERY_POINTS);
+                listener.onSoulDelivered(held, grave);
+            } else {
+                // Wrong grave, soul respawns elsewhere
+                Soul.respawn(held, maze, graves, souls, random);
+                addSoul(held);
+                listener.onWrongGrave(held, grave);
+            }
+            return;
+        }
+
+        // --- Dropping on empty space ---
+        int row = player.y / maze.tileSize;
+        int col = player.x / maze.tileSize;
+        if (!maze.isWall(row, col)) {
+            held.setPosition(player.x, player.y);
+            addSoul(held);
+            player.removeHeldSoul();
+        }
+    }
+
+    private void addSoul(Soul soul) {
+        souls.add(soul);
+        soulIndex.insert(soul, soul.getX(), soul.getY(), Soul.SIZE, Soul.SIZE);
+    }
+}
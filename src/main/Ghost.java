@@ -3,232 +3,189 @@ package main;
 import java.awt.*;
 import java.util.List;
 import java.util.*;
-import javax.swing.ImageIcon;
 
 public class Ghost {
 	public int x, y;
-    public double speed = 1.4;
+    public int prevX, prevY; // position at the start of the current tick (for interpolation)
+    private double fx, fy;   // exact position; x/y are the rounded pixel values
+    // px per 60 Hz tick, per axis. Used to be 1.4, but positions were rounded to
+    // whole pixels every tick so the ghost really moved 1px per tick on each
+    // axis it moved along (1.41px diagonally); keep that pace.
+    public double speed = 1.0;
     public int size = 50;
     private Maze maze;
 
-    // Pathfinding
-    private int[] pathRow, pathCol;
-    private int pathIndex = 0;
-    private Random rnd = new Random();
+    // Tiles of clearance a ghost needs around its center tile when pathing
+    static final int SAFE_BUFFER = 3;
+
+    // Pathfinding: tile we're heading to (row * cols + col), -1 = none
+    private int targetTile = -1;
+    // Own pathfinder, or null to follow the maze's shared FlowField
+    private Pathfinder pathfinder;
+    private int pathLength = 0, pathIndex = 0;
+    private final Random rnd; // the world's stream, so a seeded level replays exactly
 
     // track player's last tile to avoid re-pathing on micro-movements
     private int lastPlayerRow = -1, lastPlayerCol = -1;
     
     // Ghost sprite
-    private static final Image GHOST_IMG = new ImageIcon("src/assets/Images/Ghost.png").getImage();
+    private static final Image GHOST_IMG = AssetCache.pinImage("src/assets/Images/Ghost.png");
+    private static final int GHOST_SPRITE = SpriteAtlas.ENTITIES.register(GHOST_IMG);
 
-    public Ghost(int x, int y, Maze maze) {
+    public Ghost(int x, int y, Maze maze, Random rnd) {
         this.x = x;
         this.y = y;
         this.maze = maze;
+        this.rnd = rnd;
+        this.fx = this.prevX = x;
+        this.fy = this.prevY = y;
+        this.pathfinder = Pathfinder.create(Pathfinder.DEFAULT_KIND, maze);
+    }
+
+    /** Use this ghost's own pathfinder instead of the shared flow field (null = flow field). */
+    public void setPathfinder(Pathfinder pathfinder) {
+        this.pathfinder = pathfinder;
+        targetTile = -1;
+        pathLength = pathIndex = 0;
+    }
+
+    public Pathfinder getPathfinder() { return pathfinder; }
+
+    /** Remember where this tick started so draw() can interpolate. */
+    public void savePosition() {
+        prevX = x;
+        prevY = y;
     }
 
     public void update(Player player) {
         int tileSize = maze.tileSize;
+        double step = GameClock.perTick(speed);
 
         // Tile coordinates (center-based) using Math.floor
         int ghostRow = getTileRow(y, size, tileSize);
         int ghostCol = getTileCol(x, size, tileSize);
-        int playerRow = getTileCol(player.y, player.size, tileSize);
+        int playerRow = getTileRow(player.y, player.size, tileSize);
         int playerCol = getTileCol(player.x, player.size, tileSize);
 
-        boolean needRecalc = false;
-
-        // Recalculate if path is empty or player moved to a different tile
-        if (pathRow == null || pathIndex >= pathRow.length) {
-            needRecalc = true;
-        } else {
-            int goalR = pathRow[pathRow.length - 1];
-            int goalC = pathCol[pathCol.length - 1];
-            if (goalR != playerRow || goalC != playerCol)
-                needRecalc = true;
-        }
-
-        // Only recompute when player tile changed (stops jitter when player touches walls)
-        if (!needRecalc && (playerRow != lastPlayerRow || playerCol != lastPlayerCol)) {
-            needRecalc = true;
-        }
-
-        if (needRecalc) {
-            computePath(ghostRow, ghostCol, playerRow, playerCol);
+        // Only re-target when player tile changed (stops jitter when player touches walls)
+        if (targetTile < 0 || playerRow != lastPlayerRow || playerCol != lastPlayerCol) {
+            targetTile = firstStep(ghostRow, ghostCol, playerRow, playerCol);
             lastPlayerRow = playerRow;
             lastPlayerCol = playerCol;
         }
 
-        // Follow path if valid
-        if (pathRow != null && pathIndex < pathRow.length) {
-            int targetRow = pathRow[pathIndex];
-            int targetCol = pathCol[pathIndex];
+        // Follow the path if it leads somewhere
+        if (targetTile >= 0) {
+            int targetRow = targetTile / maze.getCols();
+            int targetCol = targetTile % maze.getCols();
 
             // Center target in tile (tile center minus half body so ghost centers)
             int targetX = targetCol * tileSize + tileSize / 2 - size / 2;
             int targetY = targetRow * tileSize + tileSize / 2 - size / 2;
 
-            moveTowards(targetX, targetY);
+            moveTowards(targetX, targetY, step);
 
-            // Advance to next node if close enough (don't snap to avoid jitter)
-            double dist = Math.hypot(targetX - x, targetY - y);
-            if (dist < speed * 1.5) {
-                pathIndex++;
+            // Advance to next tile if close enough (don't snap to avoid jitter)
+            double dist = Math.hypot(targetX - fx, targetY - fy);
+            if (dist < step * 1.5) {
+                targetTile = nextStep(targetRow, targetCol);
             }
         } else {
             // Wander slightly if no path
             int dir = rnd.nextInt(4);
-            int nx = x, ny = y;
-            if (dir == 0) nx += speed;
-            if (dir == 1) nx -= speed;
-            if (dir == 2) ny += speed;
-            if (dir == 3) ny -= speed;
-            if (!isColliding(nx, ny)) {
-                x = nx;
-                y = ny;
+            double nx = fx, ny = fy;
+            if (dir == 0) nx += step;
+            if (dir == 1) nx -= step;
+            if (dir == 2) ny += step;
+            if (dir == 3) ny -= step;
+            if (!isColliding((int) Math.round(nx), (int) Math.round(ny))) {
+                setPosition(nx, ny);
             }
         }
     }
 
-    // Diagonal/vector movement — moves toward target in straight line, collision-checked
-    private void moveTowards(int targetX, int targetY) {
-        double dx = targetX - x;
-        double dy = targetY - y;
-        double dist = Math.hypot(dx, dy);
-        if (dist == 0) return;
+    // First tile to head for after a re-target, -1 if the player can't be reached
+    private int firstStep(int ghostRow, int ghostCol, int playerRow, int playerCol) {
+        if (pathfinder == null) {
+            // One shared BFS per player tile; a no-op if another ghost already did it
+            FlowField field = maze.getFlowField();
+            field.setGoal(playerRow, playerCol);
+            return field.nextStep(ghostRow, ghostCol);
+        }
+        pathLength = pathfinder.findPath(ghostRow, ghostCol, playerRow, playerCol);
+        pathIndex = 1; // path[0] is the tile we're on
+        return pathIndex < pathLength ? pathfinder.getPath()[pathIndex] : -1;
+    }
+
+    // Tile after the one we just reached
+    private int nextStep(int row, int col) {
+        if (pathfinder == null) return maze.getFlowField().nextStep(row, col);
+        pathIndex++;
+        return pathIndex < pathLength ? pathfinder.getPath()[pathIndex] : -1;
+    }
 
-        double nx = (dx / dist) * speed;
-        double ny = (dy / dist) * speed;
+    // Diagonal movement, collision-checked. Each axis moves up to step on its
+    // own (like the original per-axis rounding), so a diagonal step covers
+    // about 1.41x the distance of a straight one.
+    private void moveTowards(int targetX, int targetY, double step) {
+        double dx = Math.max(-step, Math.min(step, targetX - fx));
+        double dy = Math.max(-step, Math.min(step, targetY - fy));
+        if (dx == 0 && dy == 0) return;
 
-        int newX = (int) Math.round(x + nx);
-        int newY = (int) Math.round(y + ny);
+        // Split long moves into sub-steps so a fast ghost can't pass through a wall
+        double travel = Math.max(Math.abs(dx), Math.abs(dy));
+        int subSteps = (int) Math.ceil(travel / GameClock.MAX_SUBSTEP_PX);
+        double nx = dx / subSteps;
+        double ny = dy / subSteps;
+
+        for (int i = 0; i < subSteps; i++) {
+            if (!stepBy(nx, ny)) break;
+        }
+    }
+
+    /** One collision-checked step; returns false if the ghost couldn't move at all. */
+    private boolean stepBy(double nx, double ny) {
+        double newFx = fx + nx;
+        double newFy = fy + ny;
+        int newX = (int) Math.round(newFx);
+        int newY = (int) Math.round(newFy);
 
         // If the direct diagonal step collides, try axis-aligned fallback to slide along wall
         if (!isColliding(newX, newY)) {
-            x = newX;
-            y = newY;
-            return;
+            setPosition(newFx, newFy);
+            return true;
         }
 
+        boolean moved = false;
         // try x only
         if (!isColliding(newX, y)) {
-            x = newX;
+            setPosition(newFx, fy);
+            moved = true;
         }
         // try y only
         if (!isColliding(x, newY)) {
-            y = newY;
+            setPosition(fx, newFy);
+            moved = true;
         }
         // otherwise remain in place (prevents clipping)
+        return moved;
     }
 
-    // BFS pathfinding
-    private void computePath(int startRow, int startCol, int goalRow, int goalCol) {
-        int rows = maze.getRows();
-        int cols = maze.getCols();
-
-        if (!isValidTile(startRow, startCol) || !isValidTile(goalRow, goalCol)) {
-            pathRow = pathCol = null;
-            pathIndex = 0;
-            return;
-        }
-
-        boolean[][] visited = new boolean[rows][cols];
-        int[][] prevR = new int[rows][cols];
-        int[][] prevC = new int[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            Arrays.fill(prevR[r], -1);
-            Arrays.fill(prevC[r], -1);
-        }
-
-        Queue<int[]> q = new ArrayDeque<>();
-        q.add(new int[]{startRow, startCol});
-        visited[startRow][startCol] = true;
-
-        int[] dr = {-1, 1, 0, 0};
-        int[] dc = {0, 0, -1, 1};
-        boolean found = false;
-
-        while (!q.isEmpty()) {
-            int[] cur = q.poll();
-            int r = cur[0], c = cur[1];
-
-            if (r == goalRow && c == goalCol) {
-                found = true;
-                break;
-            }
-
-            for (int i = 0; i < 4; i++) {
-                int nr = r + dr[i];
-                int nc = c + dc[i];
-                if (!isValidTile(nr, nc)) continue;
-                // keep safe tile check (buffer) — prevents pathing into impossibly narrow spots
-                if (visited[nr][nc] || !isSafeTile(nr, nc)) continue;
-                visited[nr][nc] = true;
-                prevR[nr][nc] = r;
-                prevC[nr][nc] = c;
-                q.add(new int[]{nr, nc});
-            }
-        }
-
-        if (!found) {
-            pathRow = pathCol = null;
-            pathIndex = 0;
-            return;
-        }
-
-        // Reconstruct path
-        List<Integer> pr = new ArrayList<>();
-        List<Integer> pc = new ArrayList<>();
-        int r = goalRow, c = goalCol;
-        while (r != -1 && c != -1) {
-            pr.add(r);
-            pc.add(c);
-            int tr = prevR[r][c];
-            int tc = prevC[r][c];
-            r = tr;
-            c = tc;
-        }
-
-        Collections.reverse(pr);
-        Collections.reverse(pc);
-
-        pathRow = pr.stream().mapToInt(i -> i).toArray();
-        pathCol = pc.stream().mapToInt(i -> i).toArray();
-        pathIndex = 1;
-    }
-
-    private boolean isValidTile(int r, int c) {
-        return r >= 0 && c >= 0 && r < maze.getRows() && c < maze.getCols();
+    private void setPosition(double newFx, double newFy) {
+        fx = newFx;
+        fy = newFy;
+        x = (int) Math.round(fx);
+        y = (int) Math.round(fy);
     }
 
-    // collision uses Math.floor-based tile indices to match Player
+    // tile bounds via floor division to match Player; outside the maze counts as wall
     private boolean isColliding(int newX, int newY) {
-        int left = (int) Math.floor(newX / (double) maze.tileSize);
-        int right = (int) Math.floor((newX + size - 1) / (double) maze.tileSize);
-        int top = (int) Math.floor(newY / (double) maze.tileSize);
-        int bottom = (int) Math.floor((newY + size - 1) / (double) maze.tileSize);
-
-        for (int r = top; r <= bottom; r++) {
-            for (int c = left; c <= right; c++) {
-                if (!isValidTile(r, c) || maze.isWallTile(r, c)) return true;
-            }
-        }
-        return false;
+        return maze.overlapsWall(newX, newY, newX + size - 1, newY + size - 1);
     }
 
-    // safety check for BFS (buffer helps avoid impossible spots)
-    private boolean isSafeTile(int r, int c) {
-        if (maze.isWallTile(r, c)) return false;
-        int buffer = 3; // your requested buffer
-        for (int dr = -buffer; dr <= buffer; dr++) {
-            for (int dc = -buffer; dc <= buffer; dc++) {
-                int rr = r + dr, cc = c + dc;
-                if (!isValidTile(rr, cc)) continue;
-                if (maze.isWallTile(rr, cc)) return false;
-            }
-        }
-        return true;
+    // safety check for pathfinding (buffer helps avoid impossible spots)
+    static boolean isSafeTile(Maze maze, int r, int c) {
+        return maze.hasClearance(r, c, SAFE_BUFFER);
     }
     
     // tile helpers (use floor to avoid rounding mismatch)
@@ -241,71 +198,47 @@ public class Ghost {
     }
 
     public boolean collidesWith(Player p) {
-        Rectangle ghostRect = new Rectangle(x, y, size, size);
-        Rectangle playerRect = new Rectangle(p.x, p.y, p.size, p.size);
-
-        Rectangle intersection = ghostRect.intersection(playerRect);
-        // Check if intersection exists and is at least 30px in width or height
-        return !intersection.isEmpty() && (intersection.width >= 30 && intersection.height >= 30);
+        // Overlap of the two boxes, without allocating Rectangles
+        int overlapW = Math.min(x + size, p.x + p.size) - Math.max(x, p.x);
+        int overlapH = Math.min(y + size, p.y + p.size) - Math.max(y, p.y);
+        // Check if intersection exists and is at least 30px in width and height
+        return overlapW >= 30 && overlapH >= 30;
     }
 
     public void draw(Graphics g) {
-        // Draw ghost sprite
-        if (GHOST_IMG != null) {
-            g.drawImage(GHOST_IMG, x, y, size, size, null);
-        } else {
+        draw(g, 1.0);
+    }
+
+    /** Draws the ghost between its previous and current tick position. */
+    public void draw(Graphics g, double alpha) {
+        int x = (int) Math.round(prevX + (this.x - prevX) * alpha);
+        int y = (int) Math.round(prevY + (this.y - prevY) * alpha);
+        draw(g, x, y, size);
+    }
+
+    /** Draws a ghost sprite at (x, y); what WorldRenderer uses for snapshots. */
+    public static void draw(Graphics g, int x, int y, int size) {
+        if (!SpriteAtlas.ENTITIES.draw(g, GHOST_SPRITE, x, y, size, size)) {
             // Fallback to red rectangle if sprite fails to load
             g.setColor(Color.RED);
             g.fillRect(x, y, size, size);
         }
-
     }
     
-    public static Grave spawnRandom(Maze maze, List<Grave> existingGraves, Color color) {
-        Random rand = new Random();
-        int rows = maze.getRows();
-        int cols = maze.getCols();
-        int tileSize = maze.tileSize;
-
-        List<Point> validSpots = new ArrayList<>();
-
-        // Collect all open tiles that are not walls and not near existing graves
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (maze.mazeData[r].charAt(c) != ' ') continue;
-                boolean blocked = false;
-
-                // Check 1-tile radius buffer (so no grave is beside another)
-                for (Grave g : existingGraves) {
-                    int gr = g.y / tileSize;
-                    int gc = g.x / tileSize;
-
-                    int dr = Math.abs(r - gr);
-                    int dc = Math.abs(c - gc);
-
-                    if (dr <= 1 && dc <= 1) { // any grave in 8-neighbor area blocks spawn
-                        blocked = true;
-                        break;
-                    }
-                }
-
-                if (!blocked) {
-                    validSpots.add(new Point(c, r));
-                }
-            }
-        }
-
-        if (validSpots.isEmpty()) {
+    public static Grave spawnRandom(Maze maze, List<Grave> existingGraves, Color color, Random rand) {
+        PlacementIndex index = maze.getPlacementIndex();
+        PlacementIndex.Occupancy graves = index.newOccupancy();
+        for (Grave g : existingGraves) graves.mark(g.y / maze.tileSize, g.x / maze.tileSize, 1);
+
+        // Any open tile with no grave in its 8-neighbor area (so no grave is beside another)
+        int tile = graves.pick(index.candidates(Maze.FLOOR, 1), 1, 1, rand);
+        if (tile < 0) {
             System.out.println("⚠ No valid spots for grave!");
             return null;
         }
 
-        // pick random valid spot
-        Point chosen = validSpots.get(rand.nextInt(validSpots.size()));
-        int x = chosen.x * tileSize;
-        int y = chosen.y * tileSize;
-
-        return new Grave(x, y, color);
+        Point p = index.toPoint(tile);
+        return new Grave(p.x, p.y, color);
     }
     
     public double distanceTo(Player player) {
@@ -3,7 +3,6 @@ package main;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Image;
-import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -12,35 +11,48 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Arrays;
 import java.util.Random;
-import javax.swing.ImageIcon;
 
 public class Grave {
-	private static final int SIZE = 50;
+	static final int SIZE = 50;
     private static final Map<Color, Image> GRAVE_SPRITES = new HashMap<>();
     static {
-        GRAVE_SPRITES.put(Color.BLUE, new ImageIcon("src/assets/Images/BlueGrave.png").getImage());
-        GRAVE_SPRITES.put(Color.RED, new ImageIcon("src/assets/Images/RedGrave.png").getImage());
-        GRAVE_SPRITES.put(Color.ORANGE, new ImageIcon("src/assets/Images/OrangeGrave.png").getImage());
-        GRAVE_SPRITES.put(Color.YELLOW, new ImageIcon("src/assets/Images/YellowGrave.png").getImage());
-        GRAVE_SPRITES.put(Color.GREEN, new ImageIcon("src/assets/Images/GreenGrave.png").getImage());
-        GRAVE_SPRITES.put(new Color(128, 0, 128), new ImageIcon("src/assets/Images/PurpleGrave.png").getImage());
+        GRAVE_SPRITES.put(Color.BLUE, AssetCache.pinImage("src/assets/Images/BlueGrave.png"));
+        GRAVE_SPRITES.put(Color.RED, AssetCache.pinImage("src/assets/Images/RedGrave.png"));
+        GRAVE_SPRITES.put(Color.ORANGE, AssetCache.pinImage("src/assets/Images/OrangeGrave.png"));
+        GRAVE_SPRITES.put(Color.YELLOW, AssetCache.pinImage("src/assets/Images/YellowGrave.png"));
+        GRAVE_SPRITES.put(Color.GREEN, AssetCache.pinImage("src/assets/Images/GreenGrave.png"));
+        GRAVE_SPRITES.put(new Color(128, 0, 128), AssetCache.pinImage("src/assets/Images/PurpleGrave.png"));
+    }
+    // Atlas ids per color, so draw() is an unscaled blit
+    private static final Map<Color, Integer> GRAVE_ATLAS_IDS = new HashMap<>();
+    static {
+        for (Map.Entry<Color, Image> e : GRAVE_SPRITES.entrySet()) {
+            GRAVE_ATLAS_IDS.put(e.getKey(), SpriteAtlas.ENTITIES.register(e.getValue()));
+        }
     }
 
     int x;
 	int y;
     private Color color;
+    private final int sprite;
 
     public Grave(int x, int y, Color color) {
         this.x = x;
         this.y = y;
         this.color = color;
+        this.sprite = GRAVE_ATLAS_IDS.getOrDefault(color, GRAVE_ATLAS_IDS.get(Color.BLUE));
     }
 
     public void draw(Graphics g) {
-        Image img = GRAVE_SPRITES.getOrDefault(color, GRAVE_SPRITES.get(Color.BLUE));
-        if (img != null) {
-            g.drawImage(img, x, y, SIZE, SIZE, null);
-        } else {
+        draw(g, sprite, x, y);
+    }
+
+    /** Atlas id of this grave's sprite (its color). */
+    int getSprite() { return sprite; }
+
+    /** Draws grave sprite {@code sprite} (see getSprite) at (x, y). */
+    public static void draw(Graphics g, int sprite, int x, int y) {
+        if (!SpriteAtlas.ENTITIES.draw(g, sprite, x, y, SIZE, SIZE)) {
             g.setColor(Color.MAGENTA);
             g.fillRect(x, y, SIZE, SIZE);
         }
@@ -50,22 +62,14 @@ public class Grave {
         return new Rectangle(x, y, SIZE, SIZE);
     }
 
-    public static List<Grave> generateGraves(Maze maze, int count) {
-        List<Point> graveTiles = new ArrayList<>();
+    /** Picks {@code count} grave tiles and colors; all choices come from {@code rand}. */
+    public static List<Grave> generateGraves(Maze maze, int count, Random rand) {
         List<Grave> graves = new ArrayList<>();
-        Random rand = new Random();
 
-        // Find all 'G' tiles
-        for (int r = 0; r < maze.mazeData.length; r++) {
-            for (int c = 0; c < maze.mazeData[r].length(); c++) {
-                if (maze.mazeData[r].charAt(c) == 'G') {
-                    graveTiles.add(new Point(c * maze.tileSize, r * maze.tileSize));
-                }
-            }
-        }
-
-        // Shuffle to randomize selection
-        Collections.shuffle(graveTiles, rand);
+        // All open 'G' tiles, and the ones already used
+        PlacementIndex index = maze.getPlacementIndex();
+        int[] graveTiles = index.candidates(Maze.GRAVE, 1);
+        PlacementIndex.Occupancy taken = index.newOccupancy();
 
         // Create a list of available colors for unique assignment
         Color[] COLORS = {
@@ -74,36 +78,15 @@ public class Grave {
         List<Color> availableColors = new ArrayList<>(Arrays.asList(COLORS));
         Collections.shuffle(availableColors, rand);
 
-        for (int i = 0; i < graveTiles.size() && graves.size() < count; i++) {
-            Point p = graveTiles.get(i);
-            int col = p.x / maze.tileSize;
-            int row = p.y / maze.tileSize;
-
-            // Skip invalid spots
-            if (maze.isWall(row, col)) continue;
-
-            // Check adjacency — ensure no existing grave is within 2 tiles (larger safe zone)
-            boolean tooClose = false;
-            for (Grave g : graves) {
-                int gr = g.y / maze.tileSize;
-                int gc = g.x / maze.tileSize;
-
-                int dr = Math.abs(row - gr);
-                int dc = Math.abs(col - gc);
-
-                if (dr <= 2 && dc <= 2) { // larger safe zone to prevent overlap
-                    tooClose = true;
-                    break;
-                }
-            }
-
-            if (tooClose) continue;
+        // One unique color per grave
+        while (graves.size() < count && graves.size() < availableColors.size()) {
+            // No existing grave within 2 tiles (larger safe zone to prevent overlap)
+            int tile = taken.pick(graveTiles, 1, 2, rand);
+            if (tile < 0) break; // no room left
+            taken.mark(index.rowOf(tile), index.colOf(tile), 1);
 
-            // Use next available unique color
-            if (graves.size() < availableColors.size()) {
-                Color color = availableColors.get(graves.size());
-                graves.add(new Grave(p.x, p.y, color));
-            }
+            Color color = availableColors.get(graves.size());
+            graves.add(new Grave(index.colOf(tile) * maze.tileSize, index.rowOf(tile) * maze.tileSize, color));
         }
 
         return graves;
@@ -0,0 +1,198 @@
+package main;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Plays the game without a window, as fast as the CPU allows: builds each
+ * level, lets a simple bot steer the player and ticks the GameWorld in a
+ * tight loop. For balancing, bots and profiling on machines with no display.
+ *
+ *   java -cp bin main.HeadlessRunner [ticks N] [levels N] [seed N] [record DIR] [idle]
+ *
+ * ticks  - total tick budget (default 2,000,000, about 9 hours of play)
+ * levels - stop after finishing this many levels (default 18)
+ * seed   - run seed; the same seed plays the same session
+ * record - save a replay of every attempt into DIR (see ReplayPlayer)
+ * idle   - the player stands still (measures ghosts and rules alone)
+ *
+ * A death retries the same level, like the Retry button.
+ */
+public class HeadlessRunner {
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        long maxTicks = 2_000_000;
+        int maxLevels = 18;
+        boolean idle = false;
+        Long seed = null;
+        Path recordDir = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("ticks") && i + 1 < args.length) maxTicks = Long.parseLong(args[++i]);
+            else if (args[i].equals("levels") && i + 1 < args.length) maxLevels = Integer.parseInt(args[++i]);
+            else if (args[i].equals("seed") && i + 1 < args.length) seed = Long.parseLong(args[++i]);
+            else if (args[i].equals("record") && i + 1 < args.length) recordDir = Paths.get(args[++i]);
+            else if (args[i].equals("idle")) idle = true;
+            else {
+                System.err.println("usage: HeadlessRunner [ticks N] [levels N] [seed N] [record DIR] [idle]");
+                System.exit(2);
+            }
+        }
+
+        LevelManager levelManager = seed != null ? new LevelManager(seed) : new LevelManager();
+        long totalTicks = 0, tickNanos = 0;
+        int finished = 0, deaths = 0;
+
+        while (totalTicks < maxTicks && finished < maxLevels) {
+            int level = levelManager.getCurrentLevel();
+            GameWorld world = new GameWorld(LevelState.build(levelManager, level), levelManager, null);
+            levelManager.prefetchNextLevel();
+            Bot bot = idle ? null : new Bot(world);
+            ReplayRecorder recorder = recordDir != null ? new ReplayRecorder(levelManager, world) : null;
+
+            long start = System.nanoTime();
+            while (!world.isFinished() && totalTicks < maxTicks) {
+                int input = bot != null ? bot.step() : 0;
+                if (recorder != null) recorder.record(input);
+                world.tick(input);
+                totalTicks++;
+            }
+            tickNanos += System.nanoTime() - start;
+            if (recorder != null) recorder.save(recordDir, world, levelManager);
+
+            String outcome = world.isLevelCompleted() ? "completed" : world.isGameOver() ? "died" : "out of ticks";
+            System.out.printf("[headless] level %d: %s after %d ticks (%.1f s game time), score %d%n",
+                    level, outcome, world.getTicks(), world.getTimeMillis() / 1000.0, levelManager.getScore());
+
+            if (world.isGameOver()) {
+                deaths++;
+            } else if (world.isLevelCompleted()) {
+                finished++;
+                if (level == levelManager.getCurrentLevel() && level >= 18) break; // last level
+                levelManager.nextLevel();
+            }
+        }
+
+        double seconds = tickNanos / 1e9;
+        double gameSeconds = totalTicks * (double) GameClock.TICK_NANOS / 1e9;
+        System.out.printf("[headless] %d levels finished, %d deaths, score %d%n", finished, deaths, levelManager.getScore());
+        System.out.printf("[headless] %d ticks in %.2f s: %.0f ticks/s, %.0fx real time%n",
+                totalTicks, seconds, totalTicks / Math.max(seconds, 1e-9), gameSeconds / Math.max(seconds, 1e-9));
+    }
+
+    /**
+     * Walks to the nearest soul, then to a grave of its color, on the same
+     * tile paths the ghosts use; wanders when it has no path. Only reads the
+     * world and answers with a PlayerInput mask, like a keyboard would.
+     */
+    static class Bot {
+        private static final int REPLAN_TICKS = 15;
+        private static final int LOOKAHEAD = 3;   // steer at a tile a few steps down the path
+        private static final int DEAD_ZONE = 2;   // px; stops jitter around the waypoint
+
+        private final GameWorld world;
+        private final Maze maze;
+        private final Player player;
+        private final BfsPathfinder paths;
+        private final Random rand;
+        private int pathLength, pathIndex;
+        private int sinceReplan = REPLAN_TICKS;
+        private int wanderTicks, wanderDir;
+
+        Bot(GameWorld world) {
+            this.world = world;
+            this.maze = world.getMaze();
+            this.player = world.getPlayer();
+            this.paths = new BfsPathfinder(maze);
+            this.rand = new Random(world.getSeed()); // own stream, so it can't shift the world's
+        }
+
+        /** This tick's input. */
+        int step() {
+            int[] target = pickTarget();
+            if (target == null) return 0;
+            if (overlapsPlayer(target[0], target[1], target[2])) {
+                sinceReplan = REPLAN_TICKS;
+                return PlayerInput.ACTION;
+            }
+
+            if (++sinceReplan >= REPLAN_TICKS) {
+                sinceReplan = 0;
+                plan(target[0] + target[2] / 2, target[1] + target[2] / 2);
+            }
+            if (pathLength == 0) return wander();
+
+            // Drop waypoints we've reached, then head for one a little further on
+            int cx = player.x + player.size / 2, cy = player.y + player.size / 2;
+            int[] path = paths.getPath();
+            while (pathIndex < pathLength - 1 && distanceTo(path[pathIndex], cx, cy) <= maze.tileSize) pathIndex++;
+            int waypoint = path[Math.min(pathIndex + LOOKAHEAD, pathLength - 1)];
+            int tx = (waypoint % maze.getCols()) * maze.tileSize + maze.tileSize / 2;
+            int ty = (waypoint / maze.getCols()) * maze.tileSize + maze.tileSize / 2;
+            return PlayerInput.of(ty < cy - DEAD_ZONE, ty > cy + DEAD_ZONE, tx < cx - DEAD_ZONE, tx > cx + DEAD_ZONE, false);
+        }
+
+        // x, y, size of the next thing to walk to; null when there's nothing left
+        private int[] pickTarget() {
+            int best = Integer.MAX_VALUE;
+            int[] target = null;
+            if (!player.isHoldingSoul()) {
+                for (Soul s : world.getSouls()) {
+                    int d = Math.abs(s.getX() - player.x) + Math.abs(s.getY() - player.y);
+                    if (d < best) {
+                        best = d;
+                        target = new int[]{s.getX(), s.getY(), Soul.SIZE};
+                    }
+                }
+            } else {
+                List<Grave> graves = world.getGraves();
+                for (Grave g : graves) {
+                    if (!g.getColor().equals(player.getHeldSoul().getColor())) continue;
+                    int d = Math.abs(g.x - player.x) + Math.abs(g.y - player.y);
+                    if (d < best) {
+                        best = d;
+                        target = new int[]{g.x, g.y, Grave.SIZE};
+                    }
+                }
+            }
+            return target;
+        }
+
+        private boolean overlapsPlayer(int x, int y, int size) {
+            return x < player.x + player.size && player.x < x + size
+                    && y < player.y + player.size && player.y < y + size;
+        }
+
+        // Path from the player's tile to the nearest tile a body fits on around (px, py)
+        private void plan(int px, int py) {
+            pathLength = pathIndex = 0;
+            int goalRow = py / maze.tileSize, goalCol = px / maze.tileSize;
+            for (int radius = 0; radius <= 6; radius++) {
+                for (int dr = -radius; dr <= radius; dr++) {
+                    for (int dc = -radius; dc <= radius; dc++) {
+                        if (Math.max(Math.abs(dr), Math.abs(dc)) != radius) continue; // ring only
+                        int r = goalRow + dr, c = goalCol + dc;
+                        if (!maze.isValidTile(r, c) || !Ghost.isSafeTile(maze, r, c)) continue;
+                        pathLength = paths.findPath(player.getTileRow(), player.getTileCol(), r, c);
+                        if (pathLength > 0) return;
+                    }
+                }
+            }
+        }
+
+        private int wander() {
+            if (--wanderTicks <= 0) {
+                wanderTicks = 20 + rand.nextInt(40);
+                wanderDir = rand.nextInt(4);
+            }
+            return 1 << wanderDir; // UP, DOWN, LEFT or RIGHT
+        }
+
+        private int distanceTo(int tile, int x, int y) {
+            int tx = (tile % maze.getCols()) * maze.tileSize + maze.tileSize / 2;
+            int ty = (tile / maze.getCols()) * maze.tileSize + maze.tileSize / 2;
+            return Math.abs(tx - x) + Math.abs(ty - y);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package main;
+
+import java.util.Arrays;
+
+/**
+ * Input-to-photon latency, turned on with -Dsoulmaze.inputLatency=true.
+ *
+ * The tick that applies a key event stamps its snapshot with the event's
+ * arrival time; the first frame presenting that snapshot closes the
+ * sample. "Photon" here is when the frame was handed to the screen
+ * (BufferStrategy.show + Toolkit.sync, or the end of paintComponent), the
+ * latest point Java can see; the display's own scanout comes on top.
+ * Every SAMPLES samples it prints:
+ *
+ *   [latency] 120 inputs: input->tick p50 7.9 p95 15.6 max 16.4 ms | input->photon p50 10.2 p95 18.9 max 24.0 ms
+ */
+public class InputLatency {
+    public static final boolean ENABLED = Boolean.getBoolean("soulmaze.inputLatency");
+    private static final int SAMPLES = 120;
+
+    private final long[] toTick = new long[SAMPLES];
+    private final long[] toPhoton = new long[SAMPLES];
+    private int count;
+    private long lastSequence; // snapshot already measured
+
+    /** A frame showing {@code s} was just presented. Called by whichever thread draws. */
+    public void presented(RenderSnapshot s) {
+        if (s.inputNanos == 0 || s.sequence == lastSequence) return;
+        lastSequence = s.sequence;
+        toTick[count] = s.tickNanos - s.inputNanos;
+        toPhoton[count] = System.nanoTime() - s.inputNanos;
+        if (++count < SAMPLES) return;
+
+        Arrays.sort(toTick);
+        Arrays.sort(toPhoton);
+        System.out.printf("[latency] %d inputs: input->tick p50 %.1f p95 %.1f max %.1f ms | input->photon p50 %.1f p95 %.1f max %.1f ms%n",
+                SAMPLES, ms(toTick, 50), ms(toTick, 95), toTick[SAMPLES - 1] / 1e6,
+                ms(toPhoton, 50), ms(toPhoton, 95), toPhoton[SAMPLES - 1] / 1e6);
+        count = 0;
+    }
+
+    private static double ms(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1e6;
+    }
+}
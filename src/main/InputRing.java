@@ -0,0 +1,119 @@
+package main;
+
+import java.awt.event.KeyEvent;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key events from the EDT to the game thread, in order and timestamped,
+ * through a single-producer / single-consumer ring with no locks.
+ *
+ * The EDT calls keyPressed/keyReleased, which only write a slot and
+ * publish it. At the start of each tick the game thread calls
+ * nextTickInput(), which replays every event since the last tick over the
+ * held-key state and returns that tick's PlayerInput mask. A direction
+ * pressed and released between two ticks still counts for the tick that
+ * sees it, and every Space press becomes one ACTION (extra presses in the
+ * same tick carry over to the next ticks), so no key event is lost.
+ *
+ * If the ring is full (the game thread is parked between levels and the
+ * player mashes keys) new events are dropped and counted; clear() empties
+ * it when a level starts.
+ */
+public class InputRing {
+    private static final int CAPACITY = 256; // power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final int PRESSED = 1 << 8;
+
+    private final int[] events = new int[CAPACITY];   // PlayerInput bit | PRESSED
+    private final long[] times = new long[CAPACITY];  // System.nanoTime() when the event arrived
+    private final AtomicLong tail = new AtomicLong(); // next slot to write; producer
+    private final AtomicLong head = new AtomicLong(); // next slot to read; consumer
+    private volatile long dropped;
+
+    // Consumer state
+    private int held;
+    private int pendingActions;
+    private long oldestDrained;   // arrival time of the first event applied by the last nextTickInput(), 0 = none
+    private int drainedCount;
+
+    // === Producer (EDT) ===
+    public void keyPressed(int keyCode) {
+        int bit = keyCode == KeyEvent.VK_SPACE ? PlayerInput.ACTION : PlayerInput.directionFor(keyCode);
+        if (bit != 0) offer(bit | PRESSED, System.nanoTime());
+    }
+
+    public void keyReleased(int keyCode) {
+        int bit = PlayerInput.directionFor(keyCode); // Space has no held state
+        if (bit != 0) offer(bit, System.nanoTime());
+    }
+
+    /** Adds one event; false (and counted in getDropped) if the ring is full. Producer only. */
+    public boolean offer(int event, long nanos) {
+        long t = tail.get();
+        if (t - head.getAcquire() >= CAPACITY) {
+            dropped++;
+            return false;
+        }
+        int slot = (int) t & MASK;
+        events[slot] = event;
+        times[slot] = nanos;
+        tail.setRelease(t + 1); // publishes the slot
+        return true;
+    }
+
+    // === Consumer (game thread) ===
+    /** Applies every queued event and returns this tick's PlayerInput mask. */
+    public int nextTickInput() {
+        int tapped = 0;
+        oldestDrained = 0;
+        drainedCount = 0;
+        long h = head.get();
+        long t = tail.getAcquire();
+        for (; h < t; h++) {
+            int slot = (int) h & MASK;
+            int event = events[slot];
+            if (drainedCount++ == 0) oldestDrained = times[slot];
+            int bit = event & PlayerInput.ALL;
+            if ((event & PRESSED) == 0) {
+                held &= ~bit;
+            } else if (bit == PlayerInput.ACTION) {
+                pendingActions++;
+            } else {
+                held |= bit;
+                tapped |= bit; // counts this tick even if released again before it
+            }
+        }
+        head.setRelease(h); // frees the slots
+        int input = held | tapped;
+        if (pendingActions > 0) {
+            pendingActions--;
+            input |= PlayerInput.ACTION;
+        }
+        return input;
+    }
+
+    /** When the oldest event used by the last nextTickInput() arrived (System.nanoTime), 0 if none. */
+    public long getOldestDrained() {
+        return oldestDrained;
+    }
+
+    public int getDrainedCount() {
+        return drainedCount;
+    }
+
+    /**
+     * Forgets queued events and held keys, for a new level. Only while the
+     * consumer isn't draining (the game loop is parked).
+     */
+    public void clear() {
+        head.set(tail.get());
+        held = 0;
+        pendingActions = 0;
+        oldestDrained = 0;
+        drainedCount = 0;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+}
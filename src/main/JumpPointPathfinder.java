@@ -0,0 +1,155 @@
+package main;
+
+/**
+ * Jump Point Search for 4-way movement.
+ *
+ * Among equally short paths we only look for the one that turns vertical as
+ * early as possible. On such a path a vertical move can turn horizontal
+ * anywhere, but a horizontal move only turns vertical right after it passes
+ * the end of a wall (otherwise it could have turned one tile earlier). So
+ * horizontal runs stop only at those corners, and vertical runs stop where a
+ * horizontal scan from them finds something. The A* search then only puts
+ * those stopping points ("jump points") on the open list; the straight
+ * tiles in between are scanned, never queued.
+ *
+ * Same heap, heuristic and tie-breaking as AStarPathfinder.
+ */
+public class JumpPointPathfinder implements Pathfinder {
+    private final Maze maze;
+    private final int rows, cols;
+    private final SearchWorkspace search;
+    private final TileHeap open;
+    private int expanded;
+    private int goal;
+
+    public JumpPointPathfinder(Maze maze) {
+        this.maze = maze;
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.search = new SearchWorkspace(rows * cols);
+        this.open = new TileHeap(rows * cols);
+    }
+
+    @Override
+    public int findPath(int startRow, int startCol, int goalRow, int goalCol) {
+        expanded = 0;
+        if (!inBounds(startRow, startCol) || !inBounds(goalRow, goalCol)) return 0;
+
+        search.begin();
+        open.clear();
+        int start = startRow * cols + startCol;
+        goal = goalRow * cols + goalCol;
+        search.visit(start, -1, 0);
+        open.put(start, key(0, start));
+
+        while (!open.isEmpty()) {
+            int cur = open.pop();
+            search.close(cur);
+            expanded++;
+            if (cur == goal) return buildPath();
+
+            int r = cur / cols, c = cur % cols;
+            int from = search.parentOf(cur);
+            if (from < 0) {
+                // start: every direction
+                add(cur, jumpVertical(r, c, -1));
+                add(cur, jumpVertical(r, c, 1));
+                add(cur, jumpHorizontal(r, c, -1));
+                add(cur, jumpHorizontal(r, c, 1));
+            } else if (from / cols == r) {
+                // arrived moving horizontally: keep going, or turn at a wall corner
+                int dc = c > from % cols ? 1 : -1;
+                add(cur, jumpHorizontal(r, c, dc));
+                if (passable(r - 1, c) && !passable(r - 1, c - dc)) add(cur, jumpVertical(r, c, -1));
+                if (passable(r + 1, c) && !passable(r + 1, c - dc)) add(cur, jumpVertical(r, c, 1));
+            } else {
+                // arrived moving vertically: keep going or turn either way
+                int dr = r > from / cols ? 1 : -1;
+                add(cur, jumpVertical(r, c, dr));
+                add(cur, jumpHorizontal(r, c, -1));
+                add(cur, jumpHorizontal(r, c, 1));
+            }
+        }
+        return 0;
+    }
+
+    private void add(int from, int jumpPoint) {
+        if (jumpPoint < 0 || search.isClosed(jumpPoint)) return;
+        int g = search.costOf(from) + manhattan(from, jumpPoint);
+        int known = search.costOf(jumpPoint);
+        if (known >= 0 && known <= g) return;
+        search.visit(jumpPoint, from, g);
+        open.put(jumpPoint, key(g, jumpPoint));
+    }
+
+    // === Jumps ===
+    // Scan from (r, c) along the row; -1 if we hit a wall first
+    private int jumpHorizontal(int r, int c, int dc) {
+        while (true) {
+            c += dc;
+            if (!passable(r, c)) return -1;
+            int tile = r * cols + c;
+            if (tile == goal) return tile;
+            // forced turn: the tile beside us just opened up past a wall
+            if (passable(r - 1, c) && !passable(r - 1, c - dc)) return tile;
+            if (passable(r + 1, c) && !passable(r + 1, c - dc)) return tile;
+        }
+    }
+
+    // Scan along the column; stops where a horizontal scan would find something
+    private int jumpVertical(int r, int c, int dr) {
+        while (true) {
+            r += dr;
+            if (!passable(r, c)) return -1;
+            int tile = r * cols + c;
+            if (tile == goal) return tile;
+            if (jumpHorizontal(r, c, -1) >= 0 || jumpHorizontal(r, c, 1) >= 0) return tile;
+        }
+    }
+
+    // === Path ===
+    // Trace the jump points, then fill in the straight runs between them, in place
+    private int buildPath() {
+        int points = search.tracePath(goal);
+        int[] path = search.getPath();
+        int length = search.costOf(goal) + 1;
+        // Walk backwards so we never overwrite a jump point we haven't read yet
+        for (int j = points - 1; j > 0; j--) {
+            int to = path[j], from = path[j - 1];
+            int step = Integer.signum(to / cols - from / cols) * cols + Integer.signum(to % cols - from % cols);
+            int end = search.costOf(to);
+            int begin = search.costOf(from);
+            for (int i = end, t = to; i > begin; i--, t -= step) path[i] = t;
+        }
+        return length;
+    }
+
+    // f in the high bits, h in the low bits as the tie-breaker
+    private long key(int g, int tile) {
+        int h = manhattan(tile, goal);
+        return ((long) (g + h) << 32) | h;
+    }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    @Override
+    public int[] getPath() {
+        return search.getPath();
+    }
+
+    @Override
+    public int getNodesExpanded() { return expanded; }
+
+    @Override
+    public String getName() { return "jps"; }
+
+    private boolean passable(int r, int c) {
+        return inBounds(r, c) && Ghost.isSafeTile(maze, r, c);
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && c >= 0 && r < rows && c < cols;
+    }
+}
@@ -1,6 +1,5 @@
 package main;
 
-import javax.imageio.ImageIO;
 import javax.swing.JButton;
 import javax.swing.JPanel;
 
@@ -9,7 +8,6 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.util.*;
 
 /**
@@ -29,6 +27,7 @@ public class Jumpscare {
     // Jumpscare assets
     private Map<String, BufferedImage[]> imageSets = new HashMap<>();
     private Map<String, String> soundMap = new HashMap<>();
+    private List<AssetCache.Handle<BufferedImage>> imageHandles = new ArrayList<>();
 
     // Atmosphere SFX list
     private List<String> atmosphereKeys = Arrays.asList("riser1", "riser2", "whisper");
@@ -51,20 +50,20 @@ public class Jumpscare {
     private void loadAssets() {
         try {
             // === GIRL jumpscare ===
-            BufferedImage girl1 = ImageIO.read(new File("src/assets/Images/girl1.png"));
-            BufferedImage girl2 = ImageIO.read(new File("src/assets/Images/girl2.png"));
+            BufferedImage girl1 = image("src/assets/Images/girl1.png");
+            BufferedImage girl2 = image("src/assets/Images/girl2.png");
             imageSets.put("girl", new BufferedImage[]{girl1, girl2});
             soundMap.put("girl", "girl");
 
             // === SKULL jumpscare ===
-            BufferedImage skull = ImageIO.read(new File("src/assets/Images/skull.png"));
+            BufferedImage skull = image("src/assets/Images/skull.png");
             imageSets.put("skull", new BufferedImage[]{skull});
             soundMap.put("skull", "skull");
 
             // === SMILE jumpscare ===
-            BufferedImage smile1 = ImageIO.read(new File("src/assets/Images/smile1.png"));
-            BufferedImage smile2 = ImageIO.read(new File("src/assets/Images/smile2.png"));
-            BufferedImage smile3 = ImageIO.read(new File("src/assets/Images/smile3.png"));
+            BufferedImage smile1 = image("src/assets/Images/smile1.png");
+            BufferedImage smile2 = image("src/assets/Images/smile2.png");
+            BufferedImage smile3 = image("src/assets/Images/smile3.png");
             imageSets.put("smile", new BufferedImage[]{smile1, smile2, smile3});
             soundMap.put("smile", "smile");
 
@@ -84,6 +83,22 @@ public class Jumpscare {
         }
     }
 
+    // Shared copy from the asset cache; handed back in dispose()
+    private BufferedImage image(String path) {
+        AssetCache.Handle<BufferedImage> handle = AssetCache.acquireImage(path);
+        imageHandles.add(handle);
+        return handle.get();
+    }
+
+    /** Releases the jumpscare images (sounds belong to the AudioManager). */
+    public void dispose() {
+        for (AssetCache.Handle<BufferedImage> handle : imageHandles) handle.close();
+        imageHandles.clear();
+        imageSets.clear();
+        currentImage = null;
+        active = false;
+    }
+
     /** Triggers a random image from a jumpscare category (girl/skull/smile). */
     public void trigger(String type) {
         if (!imageSets.containsKey(type)) {
@@ -144,9 +159,9 @@ public class Jumpscare {
 
         dismissButton.addActionListener(e -> end());
 
-        // add it on top of the parent panel
+        // add it on top of the parent panel (index 0 = front, also above the game canvas)
         parentPanel.setLayout(null);
-        parentPanel.add(dismissButton);
+        parentPanel.add(dismissButton, 0);
         parentPanel.repaint();
     }
 
@@ -0,0 +1,62 @@
+package main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Small on-disk LRU cache of generated levels, keyed by seed.
+ *
+ * Each level is a one-entry LevelPack named after the generator version and
+ * the seed. Reading one bumps its modified time; storing past MAX_ENTRIES
+ * deletes the least recently used files.
+ */
+public class LevelCache {
+    private static final int MAX_ENTRIES = 32;
+
+    private final Path dir;
+
+    public LevelCache(Path dir) {
+        this.dir = dir;
+    }
+
+    /** The cached level for this seed, or null. */
+    public synchronized LevelData load(long seed) {
+        Path file = fileFor(seed);
+        if (!Files.exists(file)) return null;
+        try (LevelPack pack = LevelPack.open(file)) {
+            LevelData level = pack.get(0);
+            file.toFile().setLastModified(System.currentTimeMillis());
+            return level;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Dropping bad cached level " + file.getFileName() + ": " + e.getMessage());
+            file.toFile().delete();
+            return null;
+        }
+    }
+
+    public synchronized void store(long seed, LevelData level) {
+        try {
+            Files.createDirectories(dir);
+            // write aside and move in, so a reader never sees half a file
+            Path tmp = Files.createTempFile(dir, "level", ".tmp");
+            LevelPack.write(tmp, Collections.singletonList(level), new int[0]);
+            Files.move(tmp, fileFor(seed), StandardCopyOption.REPLACE_EXISTING);
+            evict();
+        } catch (IOException e) {
+            System.err.println("Error caching level: " + e.getMessage());
+        }
+    }
+
+    private void evict() {
+        File[] files = dir.toFile().listFiles((d, name) -> name.endsWith(".smpack"));
+        if (files == null || files.length <= MAX_ENTRIES) return;
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length - MAX_ENTRIES; i++) files[i].delete();
+    }
+
+    private Path fileFor(long seed) {
+        return dir.resolve(MazeGenerator.VERSION + "-" + Long.toHexString(seed) + ".smpack");
+    }
+}
@@ -0,0 +1,182 @@
+package main;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * One level: the tile grid (same characters as Maze.mazeData), spawn points,
+ * grave zones and free-form metadata.
+ *
+ * Text form, for authoring (see src/assets/Levels/*.txt):
+ *
+ *   # comment
+ *   name = Classic
+ *   levels = 1-18          any other key = value line is kept as metadata
+ *   ghost = 5 1            ghost spawn as "row col", in order; 'E' tiles if none
+ *   grid:
+ *   XXXXXXXX...            grid rows run to the end of the file
+ *
+ * The player spawn is the 'P' tile and grave zones are the rectangles of 'G'
+ * tiles. The binary form lives in a LevelPack. All coordinates are tiles;
+ * Points are (x = col, y = row).
+ */
+public class LevelData {
+    private final String name;
+    private final String[] grid;
+    private final Map<String, String> metadata;
+    private final Point playerSpawn;          // null if the grid has no 'P'
+    private final List<Point> ghostSpawns;
+    private final List<Rectangle> graveZones;
+
+    public LevelData(String name, String[] grid, Map<String, String> metadata,
+                     Point playerSpawn, List<Point> ghostSpawns, List<Rectangle> graveZones) {
+        this.name = name;
+        this.grid = grid;
+        this.metadata = Collections.unmodifiableMap(new LinkedHashMap<>(metadata));
+        this.playerSpawn = playerSpawn;
+        this.ghostSpawns = Collections.unmodifiableList(new ArrayList<>(ghostSpawns));
+        this.graveZones = Collections.unmodifiableList(new ArrayList<>(graveZones));
+    }
+
+    public String getName() { return name; }
+    /** Rows of layout characters, ready for Maze.setMazeData. */
+    public String[] getGrid() { return grid; }
+    public Map<String, String> getMetadata() { return metadata; }
+    public Point getPlayerSpawn() { return playerSpawn; }
+    public List<Point> getGhostSpawns() { return ghostSpawns; }
+    public List<Rectangle> getGraveZones() { return graveZones; }
+    public int getRows() { return grid.length; }
+    public int getCols() { return grid.length == 0 ? 0 : grid[0].length(); }
+
+    // === Text form ===
+    public static LevelData readText(Path file) throws IOException {
+        return parseText(Files.readAllLines(file, StandardCharsets.UTF_8), file.getFileName().toString());
+    }
+
+    /** Parses the text form; {@code source} is only used in error messages. */
+    public static LevelData parseText(List<String> lines, String source) throws IOException {
+        String name = source;
+        Map<String, String> metadata = new LinkedHashMap<>();
+        List<Point> ghosts = new ArrayList<>();
+        List<String> rows = new ArrayList<>();
+        boolean inGrid = false;
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (inGrid) {
+                rows.add(line);
+                continue;
+            }
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+            if (trimmed.equals("grid:")) {
+                inGrid = true;
+                continue;
+            }
+            int eq = trimmed.indexOf('=');
+            if (eq < 0) throw new IOException(source + ":" + (i + 1) + ": expected key = value or grid:");
+            String key = trimmed.substring(0, eq).trim();
+            String value = trimmed.substring(eq + 1).trim();
+            if (key.equals("name")) {
+                name = value;
+            } else if (key.equals("ghost")) {
+                String[] parts = value.split("\\s+");
+                try {
+                    ghosts.add(new Point(Integer.parseInt(parts[1]), Integer.parseInt(parts[0])));
+                } catch (RuntimeException e) {
+                    throw new IOException(source + ":" + (i + 1) + ": ghost wants \"row col\"");
+                }
+            } else {
+                metadata.put(key, value);
+            }
+        }
+        // editors like to leave a blank line at the end
+        while (!rows.isEmpty() && rows.get(rows.size() - 1).isEmpty()) rows.remove(rows.size() - 1);
+        if (rows.isEmpty()) throw new IOException(source + ": no grid");
+
+        String[] grid = padRows(rows);
+        if (ghosts.isEmpty()) ghosts = findTiles(grid, Maze.GHOST_SPAWN);
+        List<Point> players = findTiles(grid, Maze.PLAYER_SPAWN);
+        Point player = players.isEmpty() ? null : players.get(0);
+        return new LevelData(name, grid, metadata, player, ghosts, findZones(grid, Maze.GRAVE));
+    }
+
+    public void writeText(Path file) throws IOException {
+        List<String> out = new ArrayList<>();
+        out.add("# SoulMaze level");
+        out.add("name = " + name);
+        for (Map.Entry<String, String> e : metadata.entrySet()) out.add(e.getKey() + " = " + e.getValue());
+        for (Point p : ghostSpawns) out.add("ghost = " + p.y + " " + p.x);
+        out.add("grid:");
+        out.addAll(Arrays.asList(grid));
+        Files.write(file, out, StandardCharsets.UTF_8);
+    }
+
+    /** The layout built into Maze, as level data. */
+    public static LevelData classic() {
+        String[] grid = new Maze().mazeData;
+        List<Point> players = findTiles(grid, Maze.PLAYER_SPAWN);
+        return new LevelData("Classic", grid, new LinkedHashMap<>(),
+                players.isEmpty() ? null : players.get(0),
+                findTiles(grid, Maze.GHOST_SPAWN), findZones(grid, Maze.GRAVE));
+    }
+
+    // Rows shorter than the widest are padded with wall, like Maze.isWall treats them
+    private static String[] padRows(List<String> rows) {
+        int cols = 0;
+        for (String r : rows) cols = Math.max(cols, r.length());
+        String[] grid = new String[rows.size()];
+        StringBuilder sb = new StringBuilder(cols);
+        for (int i = 0; i < grid.length; i++) {
+            sb.setLength(0);
+            sb.append(rows.get(i));
+            while (sb.length() < cols) sb.append(Maze.WALL);
+            grid[i] = sb.toString();
+        }
+        return grid;
+    }
+
+    static List<Point> findTiles(String[] grid, char tile) {
+        List<Point> found = new ArrayList<>();
+        for (int r = 0; r < grid.length; r++) {
+            for (int c = 0; c < grid[r].length(); c++) {
+                if (grid[r].charAt(c) == tile) found.add(new Point(c, r));
+            }
+        }
+        return found;
+    }
+
+    /** Rectangles covering every {@code tile}: runs on a row, stacked while the next row repeats them. */
+    static List<Rectangle> findZones(String[] grid, char tile) {
+        List<Rectangle> done = new ArrayList<>();
+        List<Rectangle> open = new ArrayList<>();
+        for (int r = 0; r < grid.length; r++) {
+            List<Rectangle> next = new ArrayList<>();
+            String row = grid[r];
+            for (int c = 0; c < row.length(); c++) {
+                if (row.charAt(c) != tile) continue;
+                int start = c;
+                while (c + 1 < row.length() && row.charAt(c + 1) == tile) c++;
+                Rectangle above = null;
+                for (Rectangle z : open) {
+                    if (z.x == start && z.width == c - start + 1) above = z;
+                }
+                if (above != null) {
+                    above.height++;
+                    open.remove(above);
+                    next.add(above);
+                } else {
+                    next.add(new Rectangle(start, r, c - start + 1, 1));
+                }
+            }
+            done.addAll(open);
+            open = next;
+        }
+        done.addAll(open);
+        return done;
+    }
+}
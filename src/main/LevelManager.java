@@ -1,37 +1,100 @@
 package main;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Manages level progression, ghost count, and soul/grave generation
  * Levels 1-6: 1-6 souls/graves, 1 ghost
  * Levels 7-12: 1-6 souls/graves, 2 ghosts  
  * Levels 13-18: 1-6 souls/graves, 3 ghosts
+ *
+ * Layouts: levels the level pack maps (level 1 = the classic maze) come from
+ * the pack; every other level is generated from a seed derived from the run
+ * seed (-Dsoulmaze.seed=... to replay a run). While a level is played the
+ * next one is prepared on a background thread.
+ *
+ * Everything random inside a level (grave and soul placement, respawns,
+ * ghost wandering) draws from one stream per attempt, seeded by
+ * nextWorldSeed(), so a run seed plus the inputs reproduce a session.
  */
 public class LevelManager {
     private int currentLevel = 1;
     private int maxLevel = 18;
     private int score = 0;
+
+    // Level layouts; opened once and shared (it's read-only and memory-mapped)
+    private static final Path LEVEL_PACK = Paths.get("src/assets/Levels/levels.smpack");
+    private static LevelPack pack;
+    private static boolean packTried = false;
+
+    // Generated levels: cached on disk by seed, built ahead of time in the background
+    private static final LevelCache CACHE = new LevelCache(Paths.get(System.getProperty("soulmaze.levelCache", "levelcache")));
+    private static final ExecutorService PREFETCH = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "level-prefetch");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+    private long runSeed;
+    private Future<PreparedLevel> nextLevel; // level nextLevelNumber, being prepared
+    private int nextLevelNumber;
+    private LevelData currentData;           // kept for retries
+    private int currentDataLevel = -1;
+    private final Map<Integer, Integer> attempts = new HashMap<>(); // level -> worlds built so far
     
     public LevelManager() {
         // Start at level 1
+        runSeed = newRunSeed();
+    }
+
+    /** A run with a fixed seed (replays, headless runs). */
+    public LevelManager(long runSeed) {
+        this.runSeed = runSeed;
+    }
+
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    private static long newRunSeed() {
+        Long fixed = Long.getLong("soulmaze.seed");
+        return fixed != null ? fixed : new Random().nextLong();
     }
     
     /**
      * Get the number of souls/graves for current level (1-6)
      */
     public int getSoulsPerLevel() {
-        return ((currentLevel - 1) % 6) + 1;
+        return getSoulsPerLevel(currentLevel);
+    }
+
+    public int getSoulsPerLevel(int level) {
+        return ((level - 1) % 6) + 1;
     }
     
     /**
      * Get the number of ghosts for current level
      */
     public int getGhostCount() {
-        if (currentLevel <= 6) {
+        return getGhostCount(currentLevel);
+    }
+
+    public int getGhostCount(int level) {
+        if (level <= 6) {
             return 1;
-        } else if (currentLevel <= 12) {
+        } else if (level <= 12) {
             return 2;
         } else {
             return 3;
@@ -45,6 +108,121 @@ public class LevelManager {
         return currentLevel;
     }
     
+    /**
+     * Get the current level ready to play. Uses the one prepared in the
+     * background if there is one, so this normally doesn't wait on generation.
+     */
+    public PreparedLevel takeCurrentLevel() {
+        return takeLevel(currentLevel);
+    }
+
+    /**
+     * Get {@code level} ready to play: the prefetched one if it matches, the
+     * layout kept from the last take on a retry, otherwise built now.
+     * Synchronized because a LevelState can be built off the game thread.
+     */
+    public synchronized PreparedLevel takeLevel(int level) {
+        PreparedLevel prepared = null;
+        if (nextLevel != null && nextLevelNumber == level) {
+            Future<PreparedLevel> pending = nextLevel;
+            nextLevel = null;
+            if (!pending.isDone()) {
+                System.err.println("[levels] level " + level + " not prepared yet, waiting");
+            }
+            try {
+                prepared = pending.get();
+            } catch (Exception e) {
+                System.err.println("Error preparing level: " + e);
+            }
+        }
+        if (prepared == null) {
+            // first level, retry, or prefetch failed
+            LevelData data = currentDataLevel == level ? currentData : null;
+            prepared = data != null ? prepare(level, data, "memory", System.nanoTime()) : prepareLevel(level);
+        }
+        currentData = prepared.getData();
+        currentDataLevel = level;
+        System.out.printf("[levels] level %d from %s, prepared in %.1f ms%n",
+                level, prepared.getSource(), prepared.getPrepareNanos() / 1e6);
+        return prepared;
+    }
+
+    /**
+     * Runs a task on the background level thread. Tasks run one at a time in
+     * submit order, so a task queued after prefetchNextLevel() finds that
+     * level already prepared instead of waiting on itself.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return PREFETCH.submit(task);
+    }
+
+    /** Starts preparing the level after the current one on the background thread. */
+    public synchronized void prefetchNextLevel() {
+        int level = currentLevel + 1;
+        if (level > maxLevel || nextLevel != null) return;
+        nextLevelNumber = level;
+        nextLevel = PREFETCH.submit(() -> prepareLevel(level));
+    }
+
+    /** Builds a level and its derived data. Runs on any thread; touches no game state. */
+    public PreparedLevel prepareLevel(int level) {
+        long start = System.nanoTime();
+        LevelPack levels = getPack();
+        int entry = levels == null ? -1 : levels.entryForLevel(level);
+        if (entry >= 0 && entry < levels.size()) return prepare(level, levels.get(entry), "pack", start);
+        if (levels == null && level == 1) return prepare(level, LevelData.classic(), "built-in", start);
+
+        long seed = getLevelSeed(level);
+        LevelData data = CACHE.load(seed);
+        String source = "cache";
+        if (data == null) {
+            data = MazeGenerator.generate(seed);
+            CACHE.store(seed, data);
+            source = "generator";
+        }
+        return prepare(level, data, source, start);
+    }
+
+    private static PreparedLevel prepare(int level, LevelData data, String source, long start) {
+        Maze maze = new Maze(data.getGrid()); // tile grid + clearance map
+        maze.getFlowField();                  // nav buffers
+        return new PreparedLevel(level, data, maze, source, System.nanoTime() - start);
+    }
+
+    /** Seed the generator uses for a level of this run (splitmix64 of run seed + level). */
+    public long getLevelSeed(int level) {
+        return mix(runSeed + level * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Seed for the random stream of the next world built for {@code level}:
+     * each attempt (first try, retries) gets its own, in the order they're built.
+     */
+    public synchronized long nextWorldSeed(int level) {
+        int attempt = attempts.merge(level, 1, Integer::sum);
+        return mix(getLevelSeed(level) + attempt * 0xD1B54A32D192ED03L);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static synchronized LevelPack getPack() {
+        if (!packTried) {
+            packTried = true;
+            if (Files.exists(LEVEL_PACK)) {
+                try {
+                    pack = LevelPack.open(LEVEL_PACK);
+                } catch (IOException e) {
+                    System.err.println("Error loading level pack: " + e.getMessage());
+                }
+            }
+        }
+        return pack;
+    }
+    
     /**
      * Get current score
      */
@@ -85,9 +263,14 @@ public class LevelManager {
     /**
      * Reset to level 1 (for restart)
      */
-    public void reset() {
+    public synchronized void reset() {
         currentLevel = 1;
         score = 0;
+        runSeed = newRunSeed();
+        if (nextLevel != null) nextLevel.cancel(false);
+        nextLevel = null;
+        currentDataLevel = -1;
+        attempts.clear();
     }
     
     /**
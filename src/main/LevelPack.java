@@ -0,0 +1,246 @@
+package main;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Binary level pack, read through a memory-mapped file.
+ *
+ * Opening a pack maps the file and checks a 16-byte header, nothing else,
+ * so it costs the same for 1 level or 100k. A level is decoded the first
+ * time get() asks for it, straight out of the mapping.
+ *
+ * Layout (big-endian):
+ *   int magic "SMLP", int version, int entryCount, int levelCount
+ *   int[levelCount]          entry index for game level 1..levelCount (-1 = none)
+ *   int[entryCount][2]       offset, length of each entry
+ *   entries:
+ *     str name, varint metaCount, (str key, str value)*
+ *     varint rows, varint cols
+ *     varint playerRow + 1, varint playerCol + 1      (0 = no spawn)
+ *     varint ghostCount, (varint row, varint col)*
+ *     varint zoneCount, (varint row, col, height, width)*
+ *     varint runCount, (byte tile, varint length)*    grid, row-major, run-length
+ *   str = varint byte count + UTF-8
+ */
+public class LevelPack implements Closeable {
+    private static final int MAGIC = 0x534D4C50; // "SMLP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer data;
+    private final int entryCount;
+    private final int levelCount;
+    private final LevelData[] decoded; // filled on demand
+
+    private LevelPack(FileChannel channel, MappedByteBuffer data) throws IOException {
+        this.channel = channel;
+        this.data = data;
+        if (data.capacity() < HEADER_BYTES || data.getInt(0) != MAGIC) throw new IOException("not a level pack");
+        if (data.getInt(4) != VERSION) throw new IOException("unsupported level pack version " + data.getInt(4));
+        this.entryCount = data.getInt(8);
+        this.levelCount = data.getInt(12);
+        this.decoded = new LevelData[entryCount];
+    }
+
+    public static LevelPack open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new LevelPack(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Number of levels stored in the pack. */
+    public int size() { return entryCount; }
+
+    /** Game levels (1..N) the pack has a mapping for. */
+    public int getLevelCount() { return levelCount; }
+
+    /** Entry to play for a game level, or -1 if the pack doesn't say. */
+    public int entryForLevel(int level) {
+        if (level < 1 || level > levelCount) return -1;
+        return data.getInt(HEADER_BYTES + (level - 1) * 4);
+    }
+
+    /** Decodes entry {@code index} on first use; later calls return the same object. */
+    public synchronized LevelData get(int index) {
+        if (index < 0 || index >= entryCount) throw new IndexOutOfBoundsException("entry " + index + " of " + entryCount);
+        if (decoded[index] == null) {
+            int slot = HEADER_BYTES + levelCount * 4 + index * 8;
+            ByteBuffer in = data.duplicate();
+            in.position(data.getInt(slot));
+            in.limit(data.getInt(slot) + data.getInt(slot + 4));
+            decoded[index] = decode(in.slice());
+        }
+        return decoded[index];
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the mapping itself stays valid until it is garbage collected
+        channel.close();
+    }
+
+    // === Decoding ===
+    private static LevelData decode(ByteBuffer in) {
+        String name = readString(in);
+        Map<String, String> metadata = new LinkedHashMap<>();
+        for (int i = readVarint(in); i > 0; i--) metadata.put(readString(in), readString(in));
+
+        int rows = readVarint(in), cols = readVarint(in);
+        int playerRow = readVarint(in) - 1, playerCol = readVarint(in) - 1;
+        Point player = playerRow < 0 ? null : new Point(playerCol, playerRow);
+
+        List<Point> ghosts = new ArrayList<>();
+        for (int i = readVarint(in); i > 0; i--) {
+            int r = readVarint(in);
+            ghosts.add(new Point(readVarint(in), r));
+        }
+        List<Rectangle> zones = new ArrayList<>();
+        for (int i = readVarint(in); i > 0; i--) {
+            int r = readVarint(in), c = readVarint(in), h = readVarint(in), w = readVarint(in);
+            zones.add(new Rectangle(c, r, w, h));
+        }
+
+        char[] tiles = new char[rows * cols];
+        int at = 0;
+        for (int i = readVarint(in); i > 0; i--) {
+            char tile = (char) (in.get() & 0xFF);
+            int run = readVarint(in);
+            Arrays.fill(tiles, at, at + run, tile);
+            at += run;
+        }
+        String[] grid = new String[rows];
+        for (int r = 0; r < rows; r++) grid[r] = new String(tiles, r * cols, cols);
+
+        return new LevelData(name, grid, metadata, player, ghosts, zones);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0, shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readVarint(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // === Encoding ===
+    /**
+     * Writes a pack. {@code levelTable[i]} is the entry played on game level
+     * i + 1 (-1 for none).
+     */
+    public static void write(Path file, List<LevelData> levels, int[] levelTable) throws IOException {
+        List<byte[]> entries = new ArrayList<>();
+        for (LevelData level : levels) entries.add(encode(level));
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            out.writeInt(levelTable.length);
+            for (int entry : levelTable) out.writeInt(entry);
+            int offset = HEADER_BYTES + levelTable.length * 4 + entries.size() * 8;
+            for (byte[] entry : entries) {
+                out.writeInt(offset);
+                out.writeInt(entry.length);
+                offset += entry.length;
+            }
+            for (byte[] entry : entries) out.write(entry);
+        }
+    }
+
+    private static byte[] encode(LevelData level) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, level.getName());
+        writeVarint(out, level.getMetadata().size());
+        for (Map.Entry<String, String> e : level.getMetadata().entrySet()) {
+            writeString(out, e.getKey());
+            writeString(out, e.getValue());
+        }
+
+        String[] grid = level.getGrid();
+        int rows = level.getRows(), cols = level.getCols();
+        writeVarint(out, rows);
+        writeVarint(out, cols);
+        Point player = level.getPlayerSpawn();
+        writeVarint(out, player == null ? 0 : player.y + 1);
+        writeVarint(out, player == null ? 0 : player.x + 1);
+        writeVarint(out, level.getGhostSpawns().size());
+        for (Point p : level.getGhostSpawns()) {
+            writeVarint(out, p.y);
+            writeVarint(out, p.x);
+        }
+        writeVarint(out, level.getGraveZones().size());
+        for (Rectangle z : level.getGraveZones()) {
+            writeVarint(out, z.y);
+            writeVarint(out, z.x);
+            writeVarint(out, z.height);
+            writeVarint(out, z.width);
+        }
+
+        // run-length grid; count the runs first since the count goes in front
+        ByteArrayOutputStream runs = new ByteArrayOutputStream();
+        DataOutputStream runOut = new DataOutputStream(runs);
+        int runCount = 0;
+        char current = 0;
+        int length = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                char tile = grid[r].charAt(c);
+                if (tile > 0xFF) throw new IOException(level.getName() + ": tile '" + tile + "' doesn't fit in a byte");
+                if (length > 0 && tile != current) {
+                    runOut.writeByte(current);
+                    writeVarint(runOut, length);
+                    runCount++;
+                    length = 0;
+                }
+                current = tile;
+                length++;
+            }
+        }
+        if (length > 0) {
+            runOut.writeByte(current);
+            writeVarint(runOut, length);
+            runCount++;
+        }
+        writeVarint(out, runCount);
+        runs.writeTo(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,89 @@
+package main;
+
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Command-line helper for level files.
+ *
+ *   java main.LevelPackTool pack out.smpack a.txt b.txt ...
+ *       Compiles text levels into a binary pack. Each level's "levels"
+ *       metadata (e.g. "1-6" or "7, 9-12") says which game levels play it.
+ *   java main.LevelPackTool export-classic out.txt
+ *       Writes the layout built into Maze as a text level.
+ *   java main.LevelPackTool list pack.smpack
+ *       Prints the level table and every entry.
+ */
+public class LevelPackTool {
+    public static void main(String[] args) throws Exception {
+        if (args.length >= 3 && args[0].equals("pack")) {
+            pack(Paths.get(args[1]), Arrays.copyOfRange(args, 2, args.length));
+        } else if (args.length == 2 && args[0].equals("export-classic")) {
+            LevelData classic = LevelData.classic();
+            List<java.awt.Point> ghosts = new ArrayList<>();
+            // the spots GamePanel always spawned ghosts at, as tiles
+            ghosts.add(new java.awt.Point(1, 5));
+            ghosts.add(new java.awt.Point(112, 5));
+            ghosts.add(new java.awt.Point(60, 65));
+            Map<String, String> meta = new LinkedHashMap<>();
+            meta.put("levels", "1");
+            new LevelData(classic.getName(), classic.getGrid(), meta, classic.getPlayerSpawn(),
+                    ghosts, classic.getGraveZones()).writeText(Paths.get(args[1]));
+        } else if (args.length == 2 && args[0].equals("list")) {
+            list(Paths.get(args[1]));
+        } else {
+            System.err.println("usage: LevelPackTool pack <out.smpack> <level.txt>... | export-classic <out.txt> | list <pack>");
+            System.exit(2);
+        }
+    }
+
+    private static void pack(Path out, String[] inputs) throws Exception {
+        List<LevelData> levels = new ArrayList<>();
+        TreeMap<Integer, Integer> table = new TreeMap<>();
+        for (String input : inputs) {
+            LevelData level = LevelData.readText(Paths.get(input));
+            String spec = level.getMetadata().get("levels");
+            if (spec != null) {
+                for (int n : parseLevels(spec)) {
+                    Integer previous = table.put(n, levels.size());
+                    if (previous != null) System.err.println("level " + n + " claimed twice, " + input + " wins");
+                }
+            }
+            levels.add(level);
+        }
+        int max = table.isEmpty() ? 0 : table.lastKey();
+        int[] levelTable = new int[max];
+        Arrays.fill(levelTable, -1);
+        for (Map.Entry<Integer, Integer> e : table.entrySet()) levelTable[e.getKey() - 1] = e.getValue();
+
+        LevelPack.write(out, levels, levelTable);
+        System.out.println("Wrote " + levels.size() + " level(s), " + max + " game level(s), "
+                + Files.size(out) + " bytes to " + out);
+    }
+
+    // "1-6, 9" -> 1..6, 9
+    private static List<Integer> parseLevels(String spec) {
+        List<Integer> levels = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] range = part.trim().split("-");
+            int from = Integer.parseInt(range[0].trim());
+            int to = range.length > 1 ? Integer.parseInt(range[1].trim()) : from;
+            for (int n = from; n <= to; n++) levels.add(n);
+        }
+        return levels;
+    }
+
+    private static void list(Path file) throws Exception {
+        try (LevelPack pack = LevelPack.open(file)) {
+            for (int level = 1; level <= pack.getLevelCount(); level++) {
+                System.out.println("game level " + level + " -> entry " + pack.entryForLevel(level));
+            }
+            for (int i = 0; i < pack.size(); i++) {
+                LevelData d = pack.get(i);
+                System.out.printf("entry %d: %s %dx%d, %d ghost spawn(s), %d grave zone(s), meta %s%n",
+                        i, d.getName(), d.getCols(), d.getRows(), d.getGhostSpawns().size(),
+                        d.getGraveZones().size(), d.getMetadata());
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package main;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Future;
+
+/**
+ * Everything that changes from one level to the next: the maze, the player,
+ * the ghosts, the graves and the souls. GamePanel keeps its window, game
+ * thread and loaded sounds and only swaps one of these in, so a new level
+ * (or a retry) can be built in the background while a transition plays.
+ *
+ * Each state carries its world's random stream; building from the same
+ * run seed, level and world seed always gives the same level.
+ */
+public class LevelState {
+    private final int level;
+    private final Maze maze;
+    private final Player player;
+    private final List<Ghost> ghosts;
+    private final List<Grave> graves;
+    private final List<Soul> souls;
+    // Same entities, indexed by position for the tick loop's overlap checks
+    private final SpatialGrid<Ghost> ghostIndex;
+    private final SpatialGrid<Grave> graveIndex;
+    private final SpatialGrid<Soul> soulIndex;
+    private final long seed;
+    private final Random random; // placement used it first, the world carries on with it
+    private final long buildNanos; // layout + actors
+
+    private LevelState(int level, long seed, Random random, Maze maze, Player player, List<Ghost> ghosts,
+                       List<Grave> graves, List<Soul> souls, long buildNanos) {
+        this.level = level;
+        this.seed = seed;
+        this.random = random;
+        this.maze = maze;
+        this.player = player;
+        this.ghosts = ghosts;
+        this.graves = graves;
+        this.souls = souls;
+        this.buildNanos = buildNanos;
+
+        ghostIndex = SpatialGrid.forMaze(maze);
+        for (Ghost g : ghosts) ghostIndex.insert(g, g.x, g.y, g.size, g.size);
+        graveIndex = SpatialGrid.forMaze(maze);
+        for (Grave g : graves) graveIndex.insert(g, g.x, g.y, Grave.SIZE, Grave.SIZE);
+        soulIndex = SpatialGrid.forMaze(maze);
+        for (Soul s : souls) soulIndex.insert(s, s.getX(), s.getY(), Soul.SIZE, Soul.SIZE);
+    }
+
+    public int getLevel() { return level; }
+    public long getSeed() { return seed; }
+    public Random getRandom() { return random; }
+    public Maze getMaze() { return maze; }
+    public Player getPlayer() { return player; }
+    public List<Ghost> getGhosts() { return ghosts; }
+    public List<Grave> getGraves() { return graves; }
+    public List<Soul> getSouls() { return souls; }
+    public SpatialGrid<Ghost> getGhostIndex() { return ghostIndex; }
+    public SpatialGrid<Grave> getGraveIndex() { return graveIndex; }
+    public SpatialGrid<Soul> getSoulIndex() { return soulIndex; }
+    public long getBuildNanos() { return buildNanos; }
+
+    /** Builds {@code level} on the level manager's background thread. */
+    public static Future<LevelState> buildAsync(LevelManager levelManager, int level) {
+        return levelManager.submit(() -> build(levelManager, level));
+    }
+
+    /** Builds a fresh state for {@code level}. Touches no GamePanel state, so any thread can call it. */
+    public static LevelState build(LevelManager levelManager, int level) {
+        return build(levelManager, level, levelManager.nextWorldSeed(level));
+    }
+
+    /** Builds {@code level} with the given world seed (replays). */
+    public static LevelState build(LevelManager levelManager, int level, long seed) {
+        long start = System.nanoTime();
+        Random random = new Random(seed);
+        PreparedLevel prepared = levelManager.takeLevel(level);
+        LevelData data = prepared.getData();
+        Maze maze = prepared.getMaze();
+
+        // Find spawn points from the maze
+        Point playerSpawn = maze.getPlayerSpawn();
+        Point ghostSpawn = maze.getGhostSpawn();
+
+        // Fallback defaults if not found
+        if (playerSpawn == null) playerSpawn = new Point(640, 400);
+        if (ghostSpawn == null) ghostSpawn = new Point(100, 100);
+
+        Player player = new Player(playerSpawn.x, playerSpawn.y, maze);
+
+        // Initialize ghosts based on level with specific positions
+        List<Ghost> ghosts = new ArrayList<>();
+        int ghostCount = levelManager.getGhostCount(level);
+
+        // Define specific ghost spawn positions (adjusted to avoid walls)
+        Point[] ghostPositions = {
+            new Point(10, 50),      // Upper left (safer position)
+            new Point(1120, 50),     // Upper right (safer position)
+            new Point(600, 650)      // Lower middle (safer position)
+        };
+
+        // Levels from the pack bring their own spawn tiles
+        if (data != null && !data.getGhostSpawns().isEmpty()) {
+            List<Point> spawns = data.getGhostSpawns();
+            ghostPositions = new Point[spawns.size()];
+            for (int i = 0; i < ghostPositions.length; i++) {
+                ghostPositions[i] = new Point(spawns.get(i).x * maze.tileSize, spawns.get(i).y * maze.tileSize);
+            }
+        }
+
+        for (int i = 0; i < ghostCount; i++) {
+            Point ghostPos = ghostPositions[i % ghostPositions.length];
+
+            // Ensure ghost doesn't spawn on wall
+            int col = ghostPos.x / maze.tileSize;
+            int row = ghostPos.y / maze.tileSize;
+
+            // If position is on wall, find nearest valid position
+            if (maze.isWall(row, col)) {
+                boolean foundValid = false;
+                for (int offset = 1; offset <= 5 && !foundValid; offset++) {
+                    for (int dr = -offset; dr <= offset && !foundValid; dr++) {
+                        for (int dc = -offset; dc <= offset && !foundValid; dc++) {
+                            int newRow = row + dr;
+                            int newCol = col + dc;
+                            if (!maze.isWall(newRow, newCol)) {
+                                ghostPos = new Point(newCol * maze.tileSize, newRow * maze.tileSize);
+                                foundValid = true;
+                            }
+                        }
+                    }
+                }
+            }
+
+            ghosts.add(new Ghost(ghostPos.x, ghostPos.y, maze, random));
+        }
+
+        // Generate souls and graves based on level
+        List<Grave> graves = Grave.generateGraves(maze, levelManager.getSoulsPerLevel(level), random);
+        List<Soul> souls = Soul.generateSouls(maze, graves, random);
+        return new LevelState(level, seed, random, maze, player, ghosts, graves, souls, System.nanoTime() - start);
+    }
+}
@@ -4,6 +4,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
 
 public class MainMenu extends JPanel {
     private JFrame parentFrame;
@@ -12,6 +14,20 @@ public class MainMenu extends JPanel {
     private JButton rankButton;
     private JButton exitButton;
     private String playerName = "Player"; // Store player name
+    private boolean painted = false;
+
+    /** What the menu shows, so startup can load exactly this before the menu appears. */
+    public static List<AssetManifest.Asset> requiredAssets() {
+        return Arrays.asList(
+            AssetManifest.image("src/assets/Images/mainMenuImage.png"),
+            AssetManifest.scaledImage("src/assets/Images/StartButton.png", 150, 150),
+            AssetManifest.scaledImage("src/assets/Images/StartButtonHover.png", 150, 150),
+            AssetManifest.scaledImage("src/assets/Images/RankButton.png", 125, 125),
+            AssetManifest.scaledImage("src/assets/Images/RankButtonHover.png", 125, 125),
+            AssetManifest.scaledImage("src/assets/Images/ExitButton.png", 125, 125),
+            AssetManifest.scaledImage("src/assets/Images/ExitButtonHover.png", 125, 125),
+            AssetManifest.clip("src/assets/Music/MainMenu.wav"));
+    }
  // AudioManager instance
     private AudioManager audioManager;
     public MainMenu(JFrame parent) {
@@ -30,7 +46,7 @@ public class MainMenu extends JPanel {
     private void loadImages() {
         try {
             // Load background image
-            backgroundImage = new ImageIcon("src/assets/Images/mainMenuImage.png").getImage();
+            backgroundImage = AssetCache.pinImage("src/assets/Images/mainMenuImage.png");
         } catch (Exception e) {
             System.err.println("Error loading background image: " + e.getMessage());
         }
@@ -38,14 +54,8 @@ public class MainMenu extends JPanel {
     
     private void setupButtons() {
         // Load and scale Start/Play button
-        ImageIcon originalStartIcon = new ImageIcon("src/assets/Images/StartButton.png");
-        Image scaledStartImage = originalStartIcon.getImage().getScaledInstance(150, 150, Image.SCALE_SMOOTH);
-        ImageIcon scaledStartIcon = new ImageIcon(scaledStartImage);
-        
-        ImageIcon hoverStartIcon = new ImageIcon("src/assets/Images/StartButtonHover.png");
-        System.out.println("Start hover icon loaded: " + (hoverStartIcon.getImage() != null));
-        Image hoverStartScaled = hoverStartIcon.getImage().getScaledInstance(150, 150, Image.SCALE_SMOOTH);
-        ImageIcon scaledHoverStartIcon = new ImageIcon(hoverStartScaled);
+        ImageIcon scaledStartIcon = new ImageIcon(AssetCache.pinScaledImage("src/assets/Images/StartButton.png", 150, 150));
+        ImageIcon scaledHoverStartIcon = new ImageIcon(AssetCache.pinScaledImage("src/assets/Images/StartButtonHover.png", 150, 150));
         
         playButton = new JButton(scaledStartIcon);
         playButton.setBounds(580, 645, 150, 150);
@@ -58,14 +68,8 @@ public class MainMenu extends JPanel {
         add(playButton);
         
         // Load and scale Rank button
-        ImageIcon originalRankIcon = new ImageIcon("src/assets/Images/RankButton.png");
-        Image scaledRankImage = originalRankIcon.getImage().getScaledInstance(125, 125, Image.SCALE_SMOOTH);
-        ImageIcon scaledRankIcon = new ImageIcon(scaledRankImage);
-        
-        ImageIcon hoverRankIcon = new ImageIcon("src/assets/Images/RankButtonHover.png");
-        System.out.println("Rank hover icon loaded: " + (hoverRankIcon.getImage() != null));
-        Image hoverRankScaled = hoverRankIcon.getImage().getScaledInstance(125, 125, Image.SCALE_SMOOTH);
-        ImageIcon scaledHoverRankIcon = new ImageIcon(hoverRankScaled);
+        ImageIcon scaledRankIcon = new ImageIcon(AssetCache.pinScaledImage("src/assets/Images/RankButton.png", 125, 125));
+        ImageIcon scaledHoverRankIcon = new ImageIcon(AssetCache.pinScaledImage("src/assets/Images/RankButtonHover.png", 125, 125));
         
         rankButton = new JButton(scaledRankIcon);
         rankButton.setBounds(410, 653, 125, 125);
@@ -78,14 +82,8 @@ public class MainMenu extends JPanel {
         add(rankButton);
         
         // Load and scale Exit button
-        ImageIcon originalExitIcon = new ImageIcon("src/assets/Images/ExitButton.png");
-        Image scaledExitImage = originalExitIcon.getImage().getScaledInstance(125, 125, Image.SCALE_SMOOTH);
-        ImageIcon scaledExitIcon = new ImageIcon(scaledExitImage);
-        
-        ImageIcon hoverExitIcon = new ImageIcon("src/assets/Images/ExitButtonHover.png");
-        System.out.println("Exit hover icon loaded: " + (hoverExitIcon.getImage() != null));
-        Image hoverExitScaled = hoverExitIcon.getImage().getScaledInstance(125, 125, Image.SCALE_SMOOTH);
-        ImageIcon scaledHoverExitIcon = new ImageIcon(hoverExitScaled);
+        ImageIcon scaledExitIcon = new ImageIcon(AssetCache.pinScaledImage("src/assets/Images/ExitButton.png", 125, 125));
+        ImageIcon scaledHoverExitIcon = new ImageIcon(AssetCache.pinScaledImage("src/assets/Images/ExitButtonHover.png", 125, 125));
         
         exitButton = new JButton(scaledExitIcon);
         exitButton.setBounds(760, 653, 125, 125);
@@ -123,6 +121,11 @@ public class MainMenu extends JPanel {
         g2d.drawString(title, titleX, titleY);
         
         // Buttons are now JButtons, drawn by the panel
+
+        if (!painted) {
+            painted = true;
+            StartupTimer.interactive(); // only the first menu of the run counts
+        }
     }
     
 
@@ -165,6 +168,7 @@ public class MainMenu extends JPanel {
     }
     
     private void startActualGame() {
+        audioManager.cleanup(); // menu music has faded out by now; give the clip back
         // Switch to game panel
         parentFrame.getContentPane().removeAll();
         GamePanel gamePanel = new GamePanel(new LevelManager(), playerName);
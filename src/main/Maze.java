@@ -1,16 +1,23 @@
 package main;
 import java.awt.*;
-import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
 import java.util.Random;
 
 public class Maze {
     public int tileSize = 10; // each tile = 32 pixels
+
+    // Layout characters
+    public static final char WALL = 'X';
+    public static final char FLOOR = ' ';
+    public static final char PLAYER_SPAWN = 'P';
+    public static final char GHOST_SPAWN = 'E';
+    public static final char GRAVE = 'G';
     
     // Ground background sprite
-    private static final Image GROUND_IMG = new ImageIcon("src/assets/Images/Ground.png").getImage();
+    private static final Image GROUND_IMG = AssetCache.pinImage("src/assets/Images/Ground.png");
     
     // Wall sprite
-    private static final Image WALL_IMG = new ImageIcon("src/assets/Images/Wall.png").getImage();
+    private static final Image WALL_IMG = AssetCache.pinImage("src/assets/Images/wall.png");
 
     // Use 'X' for walls and ' ' (space) for paths
     public String[] mazeData = {
@@ -94,7 +101,76 @@ public class Maze {
         "XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX",
     };
 
+    // === Clearance map ===
+    // Distance (in tiles, chessboard metric) from each tile to the nearest wall;
+    // 0 on walls. Lets agent-size checks be one array read instead of a scan.
+    private byte[] clearance;
+    private static final int MAX_CLEARANCE = 127;
+
+    // Bit-packed walls + tile types; every lookup goes through this
+    private TileGrid grid;
+
+    public Maze() {
+        grid = new TileGrid(mazeData);
+        computeClearance();
+    }
+
+    /** A maze with a layout from a level file instead of the built-in one. */
+    public Maze(String[] data) {
+        mazeData = data;
+        grid = new TileGrid(mazeData);
+        computeClearance();
+    }
+
+    // === Static layer cache ===
+    // Ground + walls never change while a maze is played, so they are drawn once
+    // into a screen-compatible image and blitted every frame.
+    private BufferedImage staticLayer;
+    private String[] layerData;   // the mazeData array the layer was baked from
+    private int dataVersion = 0;  // bumped by setMazeData / invalidateLayer
+    private int layerVersion = -1;
+
     public void draw(Graphics g) {
+        if (staticLayer == null || layerData != mazeData || layerVersion != dataVersion) {
+            bakeStaticLayer();
+        }
+        g.drawImage(staticLayer, 0, 0, null);
+    }
+
+    /** Replaces the level layout and drops the cached layer. */
+    public void setMazeData(String[] data) {
+        mazeData = data;
+        invalidateLayer();
+    }
+
+    /** Call after editing mazeData in place: rebuilds the grid and re-bakes on the next draw. */
+    public void invalidateLayer() {
+        grid = new TileGrid(mazeData);
+        flowField = null;
+        placementIndex = null;
+        computeClearance();
+        dataVersion++;
+    }
+
+    private void bakeStaticLayer() {
+        int w = Math.max(1200, getCols() * tileSize);
+        int h = Math.max(781, getRows() * tileSize);
+        if (staticLayer == null || staticLayer.getWidth() != w || staticLayer.getHeight() != h) {
+            if (staticLayer != null) staticLayer.flush();
+            staticLayer = CompatibleImages.create(w, h, Transparency.OPAQUE);
+        }
+        Graphics2D g = staticLayer.createGraphics();
+        try {
+            drawLayer(g);
+        } finally {
+            g.dispose();
+        }
+        layerData = mazeData;
+        layerVersion = dataVersion;
+    }
+
+    /** Draws ground and every wall tile directly (what the cached layer holds). */
+    public void drawLayer(Graphics g) {
         // Draw ground background as full screen image (1024x804)
         if (GROUND_IMG != null) {
             g.drawImage(GROUND_IMG, 0, 0, 1200,781, null);
@@ -105,9 +181,9 @@ public class Maze {
         }
         
         // Draw walls on top of ground
-        for (int r = 0; r < mazeData.length; r++) {
-            for (int c = 0; c < mazeData[r].length(); c++) {
-                if (mazeData[r].charAt(c) == 'X') {
+        for (int r = 0; r < getRows(); r++) {
+            for (int c = 0; c < getCols(); c++) {
+                if (grid.isWall(r, c)) {
                     if (WALL_IMG != null) {
                         g.drawImage(WALL_IMG, c * tileSize, r * tileSize, tileSize, tileSize, null);
                     } else {
@@ -120,9 +196,45 @@ public class Maze {
         }
     }
 
+    // Shared ghost navigation toward the player, built on first use
+    private FlowField flowField;
+
+    public FlowField getFlowField() {
+        if (flowField == null) flowField = new FlowField(this);
+        return flowField;
+    }
+
+    // Candidate spawn tiles, also built on first use
+    private PlacementIndex placementIndex;
+
+    public synchronized PlacementIndex getPlacementIndex() {
+        if (placementIndex == null) placementIndex = new PlacementIndex(this);
+        return placementIndex;
+    }
+
     public boolean isWall(int row, int col) {
-        if (row < 0 || col < 0 || row >= mazeData.length || col >= mazeData[row].length()) return true;
-        return mazeData[row].charAt(col) == 'X';
+        return grid.isWall(row, col);
+    }
+
+    /** Layout character at (row, col) (WALL, FLOOR, GRAVE, ...); WALL outside the maze. */
+    public char getTile(int row, int col) {
+        return grid.getTile(row, col);
+    }
+
+    /** True if any tile from (fromRow, fromCol) to (toRow, toCol), inclusive, is a wall. */
+    public boolean isWallInTiles(int fromRow, int fromCol, int toRow, int toCol) {
+        return grid.anyWallInRect(fromRow, fromCol, toRow, toCol);
+    }
+
+    /**
+     * True if any wall tile touches the pixel rectangle from (left, top) to
+     * (right, bottom), both inclusive. Outside the maze counts as wall.
+     * One masked word test per tile row.
+     */
+    public boolean overlapsWall(int left, int top, int right, int bottom) {
+        return grid.anyWallInRect(
+                Math.floorDiv(top, tileSize), Math.floorDiv(left, tileSize),
+                Math.floorDiv(bottom, tileSize), Math.floorDiv(right, tileSize));
     }
 
     public boolean isValidTile(int row, int col) {
@@ -133,13 +245,77 @@ public class Maze {
         return isWall(row, col);
     }
 
-    public int getRows() { return mazeData.length; }
-    public int getCols() { return mazeData[0].length(); }
+    /**
+     * True if (row, col) is open and no wall lies within {@code buffer} tiles
+     * in any direction (a (2*buffer+1)^2 square). Tiles outside the maze don't
+     * count as walls. Use a buffer that fits the agent: ghosts use 3.
+     */
+    public boolean hasClearance(int row, int col, int buffer) {
+        if (row < 0 || col < 0 || row >= getRows() || col >= getCols()) return false;
+        return clearance[row * getCols() + col] > buffer;
+    }
+
+    /** Tiles to the nearest wall (chessboard distance), 0 for walls/outside. */
+    public int getClearance(int row, int col) {
+        if (row < 0 || col < 0 || row >= getRows() || col >= getCols()) return 0;
+        return clearance[row * getCols() + col];
+    }
+
+    /**
+     * Two-pass chessboard distance transform: a forward pass pulls distances
+     * from the up/left neighbours, a backward pass from the down/right ones.
+     */
+    private void computeClearance() {
+        int rows = getRows(), cols = getCols();
+        int[] d = new int[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                d[r * cols + c] = isWall(r, c) ? 0 : MAX_CLEARANCE;
+            }
+        }
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int i = r * cols + c;
+                if (d[i] == 0) continue;
+                int best = d[i];
+                if (c > 0) best = Math.min(best, d[i - 1] + 1);
+                if (r > 0) {
+                    best = Math.min(best, d[i - cols] + 1);
+                    if (c > 0) best = Math.min(best, d[i - cols - 1] + 1);
+                    if (c < cols - 1) best = Math.min(best, d[i - cols + 1] + 1);
+                }
+                d[i] = best;
+            }
+        }
+        for (int r = rows - 1; r >= 0; r--) {
+            for (int c = cols - 1; c >= 0; c--) {
+                int i = r * cols + c;
+                if (d[i] == 0) continue;
+                int best = d[i];
+                if (c < cols - 1) best = Math.min(best, d[i + 1] + 1);
+                if (r < rows - 1) {
+                    best = Math.min(best, d[i + cols] + 1);
+                    if (c < cols - 1) best = Math.min(best, d[i + cols + 1] + 1);
+                    if (c > 0) best = Math.min(best, d[i + cols - 1] + 1);
+                }
+                d[i] = best;
+            }
+        }
+
+        clearance = new byte[rows * cols];
+        for (int i = 0; i < d.length; i++) {
+            clearance[i] = (byte) Math.min(d[i], MAX_CLEARANCE);
+        }
+    }
+
+    public int getRows() { return grid.getRows(); }
+    public int getCols() { return grid.getCols(); }
     
     public Point getPlayerSpawn() {
-        for (int r = 0; r < mazeData.length; r++) {
-            for (int c = 0; c < mazeData[r].length(); c++) {
-                if (mazeData[r].charAt(c) == 'P') {
+        for (int r = 0; r < getRows(); r++) {
+            for (int c = 0; c < getCols(); c++) {
+                if (grid.getTile(r, c) == PLAYER_SPAWN) {
                     return new Point(c * tileSize, r * tileSize);
                 }
             }
@@ -148,9 +324,9 @@ public class Maze {
     }
 
     public Point getGhostSpawn() {
-        for (int r = 0; r < mazeData.length; r++) {
-            for (int c = 0; c < mazeData[r].length(); c++) {
-                if (mazeData[r].charAt(c) == 'E') {
+        for (int r = 0; r < getRows(); r++) {
+            for (int c = 0; c < getCols(); c++) {
+                if (grid.getTile(r, c) == GHOST_SPAWN) {
                     return new Point(c * tileSize, r * tileSize);
                 }
             }
@@ -158,16 +334,11 @@ public class Maze {
         return null;
     }
     
-    public Point getRandomOpenTile() {
-        Random rand = new Random();
-        while (true) {
-            int row = rand.nextInt(mazeData.length);
-            int col = rand.nextInt(mazeData[0].length());
-            // ensure it's not a wall
-            if (!isWall(row, col)) {
-                return new Point(col * tileSize, row * tileSize);
-            }
-        }
+    /** Top-left pixel of a random open tile, or null if the maze is all wall. */
+    public Point getRandomOpenTile(Random rand) {
+        PlacementIndex index = getPlacementIndex();
+        int tile = PlacementIndex.pick(index.candidates(PlacementIndex.ANY_OPEN, 1), rand);
+        return tile < 0 ? null : index.toPoint(tile);
     }
     
 }
@@ -0,0 +1,160 @@
+package main;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.*;
+
+/**
+ * Seeded rooms-and-corridors levels in the style of the classic layout.
+ *
+ * The map is split into a 3 x 4 grid of regions with one room in each. A
+ * random spanning tree over neighbouring regions (plus a few extra links for
+ * loops) is carved as L-shaped corridors. One central room becomes the crypt:
+ * '0' floor with the player spawn and two grave strips, like the classic one.
+ *
+ * Corridors are at least 7 tiles wide and rooms at least 12, so the 60px
+ * player (+2px gap each side) always fits and a ghost's center tile always
+ * has the clearance Ghost.SAFE_BUFFER wants. The same seed gives the same
+ * level on any machine (java.util.Random is specified exactly).
+ */
+public class MazeGenerator {
+    public static final String VERSION = "rooms-v1"; // bump when output for a seed changes
+
+    public static final int ROWS = 78, COLS = 120; // 1200 x 780 px at 10px tiles
+    private static final int REGION_ROWS = 3, REGION_COLS = 4;
+    private static final int MIN_CORRIDOR = 7, MAX_CORRIDOR = 9;
+    private static final int MIN_ROOM_H = 12, MIN_ROOM_W = 14;
+    private static final double EXTRA_LINK_CHANCE = 0.3;
+    private static final int GHOST_SPAWNS = 3;
+
+    private MazeGenerator() {}
+
+    public static LevelData generate(long seed) {
+        Random rnd = new Random(seed);
+        char[][] tiles = new char[ROWS][COLS];
+        for (char[] row : tiles) Arrays.fill(row, Maze.WALL);
+
+        int regionH = ROWS / REGION_ROWS, regionW = COLS / REGION_COLS;
+        int cryptRegion = REGION_COLS + 1 + rnd.nextInt(REGION_COLS - 2); // middle row, inner column
+
+        // === Rooms ===
+        Rectangle[] rooms = new Rectangle[REGION_ROWS * REGION_COLS];
+        for (int i = 0; i < rooms.length; i++) {
+            int top = (i / REGION_COLS) * regionH, left = (i % REGION_COLS) * regionW;
+            // 2-tile wall margin inside each region (1 is the outer border on the edges)
+            int maxH = regionH - 4, maxW = regionW - 4;
+            int h = i == cryptRegion ? maxH : MIN_ROOM_H + rnd.nextInt(maxH - MIN_ROOM_H + 1);
+            int w = i == cryptRegion ? maxW : MIN_ROOM_W + rnd.nextInt(maxW - MIN_ROOM_W + 1);
+            int r = top + 2 + rnd.nextInt(maxH - h + 1);
+            int c = left + 2 + rnd.nextInt(maxW - w + 1);
+            rooms[i] = new Rectangle(c, r, w, h);
+            fill(tiles, rooms[i], Maze.FLOOR);
+        }
+
+        // === Corridors: random spanning tree over neighbouring regions, plus loops ===
+        boolean[] linked = new boolean[rooms.length];
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(cryptRegion);
+        linked[cryptRegion] = true;
+        Set<Long> edges = new HashSet<>();
+        while (!stack.isEmpty()) {
+            int cur = stack.peek();
+            List<Integer> next = new ArrayList<>();
+            for (int n : neighbours(cur)) if (!linked[n]) next.add(n);
+            if (next.isEmpty()) {
+                stack.pop();
+                continue;
+            }
+            int n = next.get(rnd.nextInt(next.size()));
+            linked[n] = true;
+            edges.add(edgeKey(cur, n));
+            carveCorridor(tiles, rooms[cur], rooms[n], rnd);
+            stack.push(n);
+        }
+        for (int a = 0; a < rooms.length; a++) {
+            for (int b : neighbours(a)) {
+                if (b < a || edges.contains(edgeKey(a, b))) continue;
+                if (rnd.nextDouble() < EXTRA_LINK_CHANCE) carveCorridor(tiles, rooms[a], rooms[b], rnd);
+            }
+        }
+
+        // === Crypt: '0' floor, player in the middle, grave strips top and bottom ===
+        Rectangle crypt = rooms[cryptRegion];
+        fill(tiles, crypt, '0');
+        int stripW = crypt.width - 8;
+        fill(tiles, new Rectangle(crypt.x + 4, crypt.y + 1, stripW, 3), Maze.GRAVE);
+        fill(tiles, new Rectangle(crypt.x + 4, crypt.y + crypt.height - 7, stripW, 3), Maze.GRAVE);
+        Point player = new Point(crypt.x + crypt.width / 2 - 3, crypt.y + crypt.height / 2 - 3);
+        tiles[player.y][player.x] = Maze.PLAYER_SPAWN;
+
+        // === Ghosts start in the rooms furthest from the crypt ===
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < rooms.length; i++) if (i != cryptRegion) order.add(i);
+        order.sort(Comparator.comparingInt((Integer i) -> -manhattan(rooms[i], crypt)).thenComparingInt(i -> i));
+        List<Point> ghosts = new ArrayList<>();
+        for (int i = 0; i < GHOST_SPAWNS; i++) {
+            Rectangle room = rooms[order.get(i)];
+            // ghost sprite is 5x5 tiles from its top-left; center it in the room
+            ghosts.add(new Point(room.x + room.width / 2 - 2, room.y + room.height / 2 - 2));
+        }
+        Point firstGhost = ghosts.get(0);
+        tiles[firstGhost.y][firstGhost.x] = Maze.GHOST_SPAWN;
+
+        String[] grid = new String[ROWS];
+        for (int r = 0; r < ROWS; r++) grid[r] = new String(tiles[r]);
+
+        Map<String, String> meta = new LinkedHashMap<>();
+        meta.put("generator", VERSION);
+        meta.put("seed", Long.toHexString(seed));
+        return new LevelData("Generated " + Long.toHexString(seed), grid, meta, player, ghosts,
+                LevelData.findZones(grid, Maze.GRAVE));
+    }
+
+    // L-shaped corridor between room centers, W tiles wide; the bends are squared off
+    private static void carveCorridor(char[][] tiles, Rectangle a, Rectangle b, Random rnd) {
+        int width = MIN_CORRIDOR + rnd.nextInt(MAX_CORRIDOR - MIN_CORRIDOR + 1);
+        int ar = a.y + a.height / 2, ac = a.x + a.width / 2;
+        int br = b.y + b.height / 2, bc = b.x + b.width / 2;
+        int half = width / 2;
+        if (rnd.nextBoolean()) {
+            // horizontal along a's row, then vertical along b's column
+            fill(tiles, span(ar - half, Math.min(ac, bc) - half, width, Math.abs(bc - ac) + width), Maze.FLOOR);
+            fill(tiles, span(Math.min(ar, br) - half, bc - half, Math.abs(br - ar) + width, width), Maze.FLOOR);
+        } else {
+            // vertical along a's column, then horizontal along b's row
+            fill(tiles, span(Math.min(ar, br) - half, ac - half, Math.abs(br - ar) + width, width), Maze.FLOOR);
+            fill(tiles, span(br - half, Math.min(ac, bc) - half, width, Math.abs(bc - ac) + width), Maze.FLOOR);
+        }
+    }
+
+    private static Rectangle span(int row, int col, int height, int width) {
+        return new Rectangle(col, row, width, height);
+    }
+
+    // Fills a tile rectangle, never touching the outer wall ring
+    private static void fill(char[][] tiles, Rectangle area, char tile) {
+        int r0 = Math.max(1, area.y), r1 = Math.min(ROWS - 2, area.y + area.height - 1);
+        int c0 = Math.max(1, area.x), c1 = Math.min(COLS - 2, area.x + area.width - 1);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) tiles[r][c] = tile;
+        }
+    }
+
+    private static List<Integer> neighbours(int region) {
+        int r = region / REGION_COLS, c = region % REGION_COLS;
+        List<Integer> out = new ArrayList<>(4);
+        if (r > 0) out.add(region - REGION_COLS);
+        if (r < REGION_ROWS - 1) out.add(region + REGION_COLS);
+        if (c > 0) out.add(region - 1);
+        if (c < REGION_COLS - 1) out.add(region + 1);
+        return out;
+    }
+
+    private static long edgeKey(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+    }
+
+    private static int manhattan(Rectangle a, Rectangle b) {
+        return Math.abs(a.y + a.height / 2 - (b.y + b.height / 2)) + Math.abs(a.x + a.width / 2 - (b.x + b.width / 2));
+    }
+}
@@ -53,7 +53,7 @@ public class NameInputDialog extends JDialog {
     
     private void loadBackgroundImage() {
         try {
-            backgroundImage = new ImageIcon("src/assets/Images/NameInputDialog.png").getImage();
+            backgroundImage = AssetCache.pinImage("src/assets/Images/NameInputDialog.png");
         } catch (Exception e) {
             System.err.println("Error loading background image: " + e.getMessage());
         }
@@ -158,11 +158,11 @@ public class NameInputDialog extends JDialog {
     
     private JButton createStyledButton(String text, int x, int y, int width, int height) {
         // Load and scale button images
-        ImageIcon originalIcon = new ImageIcon("src/assets/Images/OkayButton.png");
+        ImageIcon originalIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/OkayButton.png"));
         Image scaledImage = originalIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
         ImageIcon scaledIcon = new ImageIcon(scaledImage);
         
-        ImageIcon hoverIcon = new ImageIcon("src/assets/Images/OkayButtonHover.png");
+        ImageIcon hoverIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/OkayButtonHover.png"));
         System.out.println("OKAY hover icon loaded: " + (hoverIcon.getImage() != null));
         Image hoverScaled = hoverIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
         ImageIcon scaledHoverIcon = new ImageIcon(hoverScaled);
@@ -180,11 +180,11 @@ public class NameInputDialog extends JDialog {
     
     private JButton createCancelButton(String text, int x, int y, int width, int height) {
         // Load and scale button images
-        ImageIcon originalIcon = new ImageIcon("src/assets/Images/CancelButton.png");
+        ImageIcon originalIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/CancelButton.png"));
         Image scaledImage = originalIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
         ImageIcon scaledIcon = new ImageIcon(scaledImage);
         
-        ImageIcon hoverIcon = new ImageIcon("src/assets/Images/CancelButtonHover.png");
+        ImageIcon hoverIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/CancelButtonHover.png"));
         System.out.println("CANCEL hover icon loaded: " + (hoverIcon.getImage() != null));
         Image hoverScaled = hoverIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
         ImageIcon scaledHoverIcon = new ImageIcon(hoverScaled);
@@ -0,0 +1,41 @@
+package main;
+
+/**
+ * Point-to-point search over the tiles a ghost can stand on.
+ *
+ * Tiles are flat indices (row * cols + col). Implementations keep their own
+ * buffers, so a ghost that paths on its own needs its own instance.
+ *
+ * Pick one globally with -Dsoulmaze.pathfinder=flow|bfs|astar|jps|dstar
+ * ("flow" = every ghost reads the maze's shared FlowField, the default),
+ * or per ghost with Ghost.setPathfinder().
+ */
+public interface Pathfinder {
+    String DEFAULT_KIND = System.getProperty("soulmaze.pathfinder", "flow");
+
+    /**
+     * Finds a shortest path and writes it (start first) into {@link #getPath()}.
+     * @return number of tiles in the path, 0 if there is none
+     */
+    int findPath(int startRow, int startCol, int goalRow, int goalCol);
+
+    /** Path written by the last findPath; only the first N entries are valid. */
+    int[] getPath();
+
+    /** Nodes taken off the open list by the last findPath. */
+    int getNodesExpanded();
+
+    /** Short name for logs and benchmarks. */
+    String getName();
+
+    /** Builds the named pathfinder, or null for "flow" / anything unknown. */
+    static Pathfinder create(String kind, Maze maze) {
+        switch (kind.toLowerCase()) {
+            case "bfs":   return new BfsPathfinder(maze);
+            case "astar": return new AStarPathfinder(maze);
+            case "jps":   return new JumpPointPathfinder(maze);
+            case "dstar": return new DStarLitePathfinder(maze);
+            default:      return null;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package main;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Where things can be put down in a maze, worked out once per maze instead
+ * of rescanning every tile for every spawn.
+ *
+ * For each footprint (tile type under the top-left corner, footprint size
+ * in tiles) the index keeps an int[] of every tile (row * cols + col) whose
+ * footprint has no wall under it; it's built on first use and then shared.
+ * An Occupancy is a bitmap of the tiles already taken by graves, souls and
+ * so on. Placing something is then a few random probes into the candidate
+ * array, each a couple of word tests against the bitmap, so it takes about
+ * the same time however big the maze is.
+ */
+public class PlacementIndex {
+    /** Tile type for candidates(): any tile that isn't a wall. */
+    public static final char ANY_OPEN = 0;
+    // Random probes before pick() falls back to a scan; only a nearly full maze gets there
+    private static final int RANDOM_TRIES = 32;
+
+    private final Maze maze;
+    private final int rows, cols, wordsPerRow;
+    private final Map<Integer, int[]> candidates = new HashMap<>();
+
+    PlacementIndex(Maze maze) {
+        this.maze = maze;
+        rows = maze.getRows();
+        cols = maze.getCols();
+        wordsPerRow = (cols + 63) >>> 6;
+    }
+
+    /**
+     * Tiles of layout type {@code type} (ANY_OPEN for any open tile) with
+     * no wall in the span x span tiles from them down and to the right.
+     * Don't modify the returned array.
+     */
+    public synchronized int[] candidates(char type, int span) {
+        return candidates.computeIfAbsent(type << 8 | span, key -> {
+            int[] tiles = new int[rows * cols];
+            int n = 0;
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    if (type == ANY_OPEN ? maze.isWall(r, c) : maze.getTile(r, c) != type) continue;
+                    if (maze.isWallInTiles(r, c, r + span - 1, c + span - 1)) continue;
+                    tiles[n++] = r * cols + c;
+                }
+            }
+            return Arrays.copyOf(tiles, n);
+        });
+    }
+
+    /** Tiles with no wall within {@code buffer} tiles in any direction (see Maze.hasClearance). */
+    public synchronized int[] clearTiles(int buffer) {
+        return candidates.computeIfAbsent(-1 - buffer, key -> {
+            int[] tiles = new int[rows * cols];
+            int n = 0;
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    if (maze.hasClearance(r, c, buffer)) tiles[n++] = r * cols + c;
+                }
+            }
+            return Arrays.copyOf(tiles, n);
+        });
+    }
+
+    /** A uniformly random tile from {@code tiles}, or -1 if it's empty. */
+    public static int pick(int[] tiles, Random rand) {
+        return tiles.length == 0 ? -1 : tiles[rand.nextInt(tiles.length)];
+    }
+
+    public int rowOf(int tile) { return tile / cols; }
+    public int colOf(int tile) { return tile % cols; }
+
+    /** Top-left pixel of {@code tile}. */
+    public Point toPoint(int tile) {
+        return new Point(colOf(tile) * maze.tileSize, rowOf(tile) * maze.tileSize);
+    }
+
+    public Occupancy newOccupancy() {
+        return new Occupancy();
+    }
+
+    /** Tiles taken so far, one bit per tile. Not thread-safe; one per placement job. */
+    public class Occupancy {
+        private final long[] bits = new long[rows * wordsPerRow];
+
+        /** Marks the span x span tiles from (row, col) as taken. */
+        public void mark(int row, int col, int span) {
+            int toRow = Math.min(rows - 1, row + span - 1), toCol = Math.min(cols - 1, col + span - 1);
+            for (int r = Math.max(0, row); r <= toRow; r++) {
+                for (int c = Math.max(0, col); c <= toCol; c++) {
+                    bits[r * wordsPerRow + (c >>> 6)] |= 1L << (c & 63);
+                }
+            }
+        }
+
+        /** Marks what a pixel-positioned entity of {@code size} px covers. */
+        public void markPixels(int x, int y, int size) {
+            int row = Math.floorDiv(y, maze.tileSize), col = Math.floorDiv(x, maze.tileSize);
+            mark(row, col, Math.floorDiv(y + size - 1, maze.tileSize) - row + 1);
+        }
+
+        /**
+         * True if nothing is taken within {@code spacing} tiles of the span x
+         * span footprint at (row, col). Tiles outside the maze are free.
+         */
+        public boolean isFree(int row, int col, int span, int spacing) {
+            int fromCol = Math.max(0, col - spacing), toCol = Math.min(cols - 1, col + span - 1 + spacing);
+            int toRow = Math.min(rows - 1, row + span - 1 + spacing);
+            int firstWord = fromCol >>> 6, lastWord = toCol >>> 6;
+            long firstMask = -1L << (fromCol & 63);
+            long lastMask = -1L >>> (63 - (toCol & 63));
+            for (int r = Math.max(0, row - spacing); r <= toRow; r++) {
+                int base = r * wordsPerRow;
+                if (firstWord == lastWord) {
+                    if ((bits[base + firstWord] & firstMask & lastMask) != 0) return false;
+                    continue;
+                }
+                if ((bits[base + firstWord] & firstMask) != 0) return false;
+                for (int w = firstWord + 1; w < lastWord; w++) {
+                    if (bits[base + w] != 0) return false;
+                }
+                if ((bits[base + lastWord] & lastMask) != 0) return false;
+            }
+            return true;
+        }
+
+        /**
+         * A random tile from {@code tiles} whose footprint is free with
+         * {@code spacing} tiles around it (isFree), or -1 if there is none.
+         * Doesn't mark it.
+         */
+        public int pick(int[] tiles, int span, int spacing, Random rand) {
+            if (tiles.length == 0) return -1;
+            for (int i = 0; i < RANDOM_TRIES; i++) {
+                int tile = tiles[rand.nextInt(tiles.length)];
+                if (isFree(tile / cols, tile % cols, span, spacing)) return tile;
+            }
+            // Crowded: walk the whole array once from a random start
+            int start = rand.nextInt(tiles.length);
+            for (int i = 0; i < tiles.length; i++) {
+                int tile = tiles[(start + i) % tiles.length];
+                if (isFree(tile / cols, tile % cols, span, spacing)) return tile;
+            }
+            return -1;
+        }
+    }
+}
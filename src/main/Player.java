@@ -4,11 +4,11 @@ import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.Rectangle;
-import javax.swing.ImageIcon;
 import java.awt.event.KeyEvent;
 
 public class Player {
 	public int x, y;
+    public int prevX, prevY; // position at the start of the current tick (for interpolation)
     public int speed = 4;
     public int normalSpeed = 4;
     public int slowSpeed = 2;
@@ -19,47 +19,86 @@ public class Player {
     public Soul getHeldSoul() { return heldSoul; }
  // === Bleeding state ===
     private int hitCount = 0; // 0 = normal, 1 = bleeding, 2 = dead
-    private long bleedStartTime = 0;               // Time when bleeding started
+    private long bleedStartTime = 0;               // World time (ms) when bleeding started
     private final int IMMUNE_DURATION = 5000;      // 5 seconds
     
     private static final int GAP = 2; // solid 2px gap between player and wall
 
     boolean up, down, left, right;
 
+    // sub-pixel movement left over when speed * TICK_SCALE isn't a whole number
+    private double remX, remY;
+
     private static final String SPRITE_DIR = "src/assets/Images/";
-    private static final Image PLAYER_UP = new ImageIcon(SPRITE_DIR + "PlayerUp.png").getImage();
-    private static final Image PLAYER_DOWN = new ImageIcon(SPRITE_DIR + "PlayerDown.png").getImage();
-    private static final Image PLAYER_LEFT = new ImageIcon(SPRITE_DIR + "PlayerLeft.png").getImage();
-    private static final Image PLAYER_RIGHT = new ImageIcon(SPRITE_DIR + "PlayerRight.png").getImage();
+    private static final Image PLAYER_UP = AssetCache.pinImage(SPRITE_DIR + "PlayerUp.png");
+    private static final Image PLAYER_DOWN = AssetCache.pinImage(SPRITE_DIR + "PlayerDown.png");
+    private static final Image PLAYER_LEFT = AssetCache.pinImage(SPRITE_DIR + "PlayerLeft.png");
+    private static final Image PLAYER_RIGHT = AssetCache.pinImage(SPRITE_DIR + "PlayerRight.png");
+    // Same four sprites, pre-scaled to size in the entity atlas
+    private static final int SPRITE_UP = SpriteAtlas.ENTITIES.register(PLAYER_UP);
+    private static final int SPRITE_DOWN = SpriteAtlas.ENTITIES.register(PLAYER_DOWN);
+    private static final int SPRITE_LEFT = SpriteAtlas.ENTITIES.register(PLAYER_LEFT);
+    private static final int SPRITE_RIGHT = SpriteAtlas.ENTITIES.register(PLAYER_RIGHT);
 
     public Player(int x, int y, Maze maze) {
         this.x = x;
         this.y = y;
         this.maze = maze;
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /** Remember where this tick started so draw() can interpolate. */
+    public void savePosition() {
+        prevX = x;
+        prevY = y;
     }
 
-    public void update() {
-        int nextX = x;
-        int nextY = y;
+    /** One tick of movement; {@code now} is the world's clock in ms (GameWorld.getTimeMillis). */
+    public void update(long now) {
+        double step = GameClock.perTick(speed);
 
         // movement logic
-        if (left) nextX -= speed;
-        if (right) nextX += speed;
-        if (canMove(nextX, y)) x = nextX;
+        int dirX = (right ? 1 : 0) - (left ? 1 : 0);
+        int dirY = (down ? 1 : 0) - (up ? 1 : 0);
+
+        remX = dirX == 0 ? 0 : remX + dirX * step;
+        int moveX = (int) remX;
+        remX -= moveX;
+        if (moveX != 0) moveAxis(moveX, 0);
 
-        if (up) nextY -= speed;
-        if (down) nextY += speed;
-        if (canMove(x, nextY)) y = nextY;
+        remY = dirY == 0 ? 0 : remY + dirY * step;
+        int moveY = (int) remY;
+        remY -= moveY;
+        if (moveY != 0) moveAxis(0, moveY);
 
         // restore speed if immunity expired
         if (hitCount == 1) {
-            long now = System.currentTimeMillis();
             if (now - bleedStartTime >= IMMUNE_DURATION) {
                 speed = normalSpeed;
             }
         }
     }
     
+    /**
+     * Moves along one axis in sub-steps of at most MAX_SUBSTEP_PX so a fast
+     * step (low tick rate, speed boosts) can't jump over a thin wall.
+     * Stops at the last sub-step that was free.
+     */
+    private void moveAxis(int dx, int dy) {
+        int remaining = Math.abs(dx + dy);
+        int sign = Integer.signum(dx + dy);
+        while (remaining > 0) {
+            int sub = Math.min(remaining, GameClock.MAX_SUBSTEP_PX) * sign;
+            int nextX = x + (dx != 0 ? sub : 0);
+            int nextY = y + (dy != 0 ? sub : 0);
+            if (!canMove(nextX, nextY)) return;
+            x = nextX;
+            y = nextY;
+            remaining -= Math.abs(sub);
+        }
+    }
+
     public Rectangle getBounds() {
         return new Rectangle(x, y, size, size);
     }
@@ -77,22 +116,8 @@ public class Player {
         int top = newY - GAP;
         int bottom = newY + s + GAP - 1;
 
-        // convert to tile indices
-        int leftCol = (int) Math.floor(left / (double) ts);
-        int rightCol = (int) Math.floor(right / (double) ts);
-        int topRow = (int) Math.floor(top / (double) ts);
-        int bottomRow = (int) Math.floor(bottom / (double) ts);
-
-        // check all tiles touching the expanded hitbox
-        for (int row = topRow; row <= bottomRow; row++) {
-            for (int col = leftCol; col <= rightCol; col++) {
-                if (maze.isWallTile(row, col)) {
-                    // If any wall tile intersects within this expanded range, block movement
-                    return false;
-                }
-            }
-        }
-        return true;
+        // any wall tile touching the expanded hitbox blocks movement
+        return !maze.overlapsWall(left, top, right, bottom);
     }
     
     public void pickUpSoul(Soul soul) {
@@ -111,22 +136,45 @@ public class Player {
     }
 
     public void draw(Graphics g) {
-        Image sprite = PLAYER_DOWN;
-        if (up) sprite = PLAYER_UP;
-        else if (down) sprite = PLAYER_DOWN;
-        else if (left) sprite = PLAYER_LEFT;
-        else if (right) sprite = PLAYER_RIGHT;
-        if (sprite != null) {
-            g.drawImage(sprite, x, y, size, size, null);
-        } else {
-            g.setColor(Color.GREEN);
-            g.fillRect(x, y, size, size);
-        }
+        draw(g, 1.0);
+    }
+
+    /** Draws the player between its previous and current tick position. */
+    public void draw(Graphics g, double alpha) {
+        int x = getDrawX(alpha);
+        int y = getDrawY(alpha);
+        draw(g, x, y, size, getFacing());
         if (heldSoul != null) {
             heldSoul.drawAt(g, x + size / 4, y - 20);
         }
     }
 
+    /** Held direction keys as PlayerInput bits; picks the sprite. */
+    public int getFacing() {
+        return PlayerInput.of(up, down, left, right, false);
+    }
+
+    /** Draws the player sprite for {@code facing} (PlayerInput bits) at (x, y), without a held soul. */
+    public static void draw(Graphics g, int x, int y, int size, int facing) {
+        int sprite = SPRITE_DOWN;
+        if ((facing & PlayerInput.UP) != 0) sprite = SPRITE_UP;
+        else if ((facing & PlayerInput.DOWN) != 0) sprite = SPRITE_DOWN;
+        else if ((facing & PlayerInput.LEFT) != 0) sprite = SPRITE_LEFT;
+        else if ((facing & PlayerInput.RIGHT) != 0) sprite = SPRITE_RIGHT;
+        if (!SpriteAtlas.ENTITIES.draw(g, sprite, x, y, size, size)) {
+            g.setColor(Color.GREEN);
+            g.fillRect(x, y, size, size);
+        }
+    }
+
+    public int getDrawX(double alpha) {
+        return (int) Math.round(prevX + (x - prevX) * alpha);
+    }
+
+    public int getDrawY(double alpha) {
+        return (int) Math.round(prevY + (y - prevY) * alpha);
+    }
+
     // Input handling
     public void keyPressed(KeyEvent e) {
         int k = e.getKeyCode();
@@ -144,6 +192,14 @@ public class Player {
         if (k == KeyEvent.VK_D || k == KeyEvent.VK_RIGHT) right = false;
     }
 
+    /** Sets the held direction keys directly (bots, replays). */
+    public void setMoving(boolean up, boolean down, boolean left, boolean right) {
+        this.up = up;
+        this.down = down;
+        this.left = left;
+        this.right = right;
+    }
+
     public void stop() {
         up = down = left = right = false;
     }
@@ -157,9 +213,7 @@ public class Player {
         return (int) Math.floor((x + size / 2.0) / maze.tileSize);
     }
     
-    public void collideWithGhost() {
-        long now = System.currentTimeMillis();
-
+    public void collideWithGhost(long now) {
         if (hitCount == 0) {
             // First collision → trigger bleeding
             hitCount = 1;
@@ -180,10 +234,9 @@ public class Player {
         return hitCount >= 2;
     }
     
-    public boolean canBeHit() {
+    public boolean canBeHit(long now) {
         if (hitCount == 0) return true; // first hit always counts
         if (hitCount == 1) {
-            long now = System.currentTimeMillis();
             return now - bleedStartTime >= IMMUNE_DURATION; // only count if immunity expired
         }
         return false; // dead already
@@ -193,8 +246,9 @@ public class Player {
     public void reset() {
         speed = normalSpeed;
         hitCount = 0;
-        x = 640;
-        y = 420;
+        x = prevX = 640;
+        y = prevY = 420;
+        remX = remY = 0;
         stop();
     }
 }
@@ -0,0 +1,37 @@
+package main;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * One tick of player input as a bitmask: the four held directions plus the
+ * interact action (Space), which is queued on key press and applied at the
+ * start of the next tick. GameWorld.tick() takes one of these per tick,
+ * which is also exactly what a replay stores.
+ */
+public final class PlayerInput {
+    public static final int UP = 1;
+    public static final int DOWN = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int ACTION = 1 << 4;
+
+    public static final int DIRECTIONS = UP | DOWN | LEFT | RIGHT;
+    public static final int ALL = DIRECTIONS | ACTION;
+
+    private PlayerInput() {}
+
+    /** Direction bit for a movement key (WASD or arrows), 0 for anything else. */
+    public static int directionFor(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_W: case KeyEvent.VK_UP:    return UP;
+            case KeyEvent.VK_S: case KeyEvent.VK_DOWN:  return DOWN;
+            case KeyEvent.VK_A: case KeyEvent.VK_LEFT:  return LEFT;
+            case KeyEvent.VK_D: case KeyEvent.VK_RIGHT: return RIGHT;
+            default: return 0;
+        }
+    }
+
+    public static int of(boolean up, boolean down, boolean left, boolean right, boolean action) {
+        return (up ? UP : 0) | (down ? DOWN : 0) | (left ? LEFT : 0) | (right ? RIGHT : 0) | (action ? ACTION : 0);
+    }
+}
@@ -0,0 +1,28 @@
+package main;
+
+/**
+ * A level that is ready to play: its layout plus the Maze built from it
+ * (tile grid, clearance map and flow field already allocated), so starting
+ * the level doesn't have to compute any of it.
+ */
+public class PreparedLevel {
+    private final int level;
+    private final LevelData data;
+    private final Maze maze;
+    private final String source;    // "pack", "cache", "generator", "memory" or "built-in"
+    private final long prepareNanos;
+
+    public PreparedLevel(int level, LevelData data, Maze maze, String source, long prepareNanos) {
+        this.level = level;
+        this.data = data;
+        this.maze = maze;
+        this.source = source;
+        this.prepareNanos = prepareNanos;
+    }
+
+    public int getLevel() { return level; }
+    public LevelData getData() { return data; }
+    public Maze getMaze() { return maze; }
+    public String getSource() { return source; }
+    public long getPrepareNanos() { return prepareNanos; }
+}
@@ -55,7 +55,7 @@ public class RankingPanel extends JDialog {
     
     private void loadBackgroundImage() {
         try {
-            backgroundImage = new ImageIcon("src/assets/Images/RankPanel.png").getImage();
+            backgroundImage = AssetCache.pinImage("src/assets/Images/RankPanel.png");
         } catch (Exception e) {
             System.err.println("Error loading background image: " + e.getMessage());
         }
@@ -151,11 +151,11 @@ public class RankingPanel extends JDialog {
     
     private JButton createCloseButton(String text, int x, int y, int width, int height) {
         // Load and scale button images
-        ImageIcon originalIcon = new ImageIcon("src/assets/Images/CloseButton.png");
+        ImageIcon originalIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/CloseButton.png"));
         Image scaledImage = originalIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
         ImageIcon scaledIcon = new ImageIcon(scaledImage);
         
-        ImageIcon hoverIcon = new ImageIcon("src/assets/Images/CloseButtonHover.png");
+        ImageIcon hoverIcon = new ImageIcon(AssetCache.pinImage("src/assets/Images/CloseButtonHover.png"));
         System.out.println("CLOSE hover icon loaded: " + (hoverIcon.getImage() != null));
         Image hoverScaled = hoverIcon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
         ImageIcon scaledHoverIcon = new ImageIcon(hoverScaled);
@@ -0,0 +1,124 @@
+package main;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything a frame needs from the world after one tick, copied into plain
+ * arrays: where each entity was at the start and end of the tick (for
+ * interpolation), which sprite it shows, the fog radius and the HUD values.
+ *
+ * The game thread fills one with capture() and publishes it through a
+ * SnapshotBuffer; once published it is never written again until the
+ * buffer hands it back, so WorldRenderer can read it from any thread
+ * without locks. The arrays only grow, so a steady game allocates nothing.
+ */
+public final class RenderSnapshot {
+    // Written by capture() only (sequence by SnapshotBuffer.publish)
+    long sequence;
+    long tick;
+    long inputNanos;           // arrival of the oldest key event this tick applied, 0 = none
+    long tickNanos;            // when this tick started
+    Maze maze;                 // null until the first capture: draw nothing
+    int score;
+    String levelDescription;
+    boolean gameOver, victory;
+    int fogRadius;
+
+    int playerPrevX, playerPrevY, playerX, playerY, playerSize, playerFacing;
+    boolean bleeding;
+    Color heldSoul;            // null when not holding one
+    float heldPhase;
+
+    int ghostCount;
+    int[] ghostPrevX = new int[4], ghostPrevY = new int[4], ghostX = new int[4], ghostY = new int[4];
+    int[] ghostSize = new int[4];
+
+    int graveCount;
+    int[] graveX = new int[8], graveY = new int[8], graveSprite = new int[8];
+
+    int soulCount;
+    int[] soulX = new int[8], soulY = new int[8];
+    Color[] soulColor = new Color[8];
+    float[] soulPhase = new float[8];
+
+    public long getTick() { return tick; }
+    /** 1 for the first snapshot published through its buffer, 2 for the next, ... */
+    public long getSequence() { return sequence; }
+
+    /** Copies the world's drawable state; game thread only, before SnapshotBuffer.publish(). */
+    public void capture(GameWorld world, int fogRadius, String levelDescription, int score, boolean victory) {
+        tick = world.getTicks();
+        inputNanos = tickNanos = 0;
+        maze = world.getMaze();
+        this.score = score;
+        this.levelDescription = levelDescription;
+        this.gameOver = world.isGameOver() || victory;
+        this.victory = victory;
+        this.fogRadius = fogRadius;
+
+        Player p = world.getPlayer();
+        playerPrevX = p.prevX;
+        playerPrevY = p.prevY;
+        playerX = p.x;
+        playerY = p.y;
+        playerSize = p.size;
+        playerFacing = p.getFacing();
+        bleeding = p.isBleeding();
+        Soul held = p.getHeldSoul();
+        heldSoul = held != null ? held.getColor() : null;
+        heldPhase = held != null ? held.getGlowPhase() : 0;
+
+        List<Ghost> ghosts = world.getGhosts();
+        ghostCount = ghosts.size();
+        if (ghostX.length < ghostCount) {
+            int n = ghostCount * 2;
+            ghostPrevX = Arrays.copyOf(ghostPrevX, n);
+            ghostPrevY = Arrays.copyOf(ghostPrevY, n);
+            ghostX = Arrays.copyOf(ghostX, n);
+            ghostY = Arrays.copyOf(ghostY, n);
+            ghostSize = Arrays.copyOf(ghostSize, n);
+        }
+        for (int i = 0; i < ghostCount; i++) {
+            Ghost g = ghosts.get(i);
+            ghostPrevX[i] = g.prevX;
+            ghostPrevY[i] = g.prevY;
+            ghostX[i] = g.x;
+            ghostY[i] = g.y;
+            ghostSize[i] = g.size;
+        }
+
+        List<Grave> graves = world.getGraves();
+        graveCount = graves.size();
+        if (graveX.length < graveCount) {
+            int n = graveCount * 2;
+            graveX = Arrays.copyOf(graveX, n);
+            graveY = Arrays.copyOf(graveY, n);
+            graveSprite = Arrays.copyOf(graveSprite, n);
+        }
+        for (int i = 0; i < graveCount; i++) {
+            Grave g = graves.get(i);
+            graveX[i] = g.x;
+            graveY[i] = g.y;
+            graveSprite[i] = g.getSprite();
+        }
+
+        List<Soul> souls = world.getSouls();
+        soulCount = souls.size();
+        if (soulX.length < soulCount) {
+            int n = soulCount * 2;
+            soulX = Arrays.copyOf(soulX, n);
+            soulY = Arrays.copyOf(soulY, n);
+            soulColor = Arrays.copyOf(soulColor, n);
+            soulPhase = Arrays.copyOf(soulPhase, n);
+        }
+        for (int i = 0; i < soulCount; i++) {
+            Soul s = souls.get(i);
+            soulX[i] = s.getX();
+            soulY[i] = s.getY();
+            soulColor[i] = s.getColor();
+            soulPhase[i] = s.getGlowPhase();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package main;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+
+/**
+ * A recorded attempt at one level: the seeds that built it and the
+ * PlayerInput mask of every tick, run-length encoded. Held keys turn into a
+ * handful of long runs, so a minute of play is usually well under 1 KB.
+ * The outcome is stored too, so playing it back can check nothing drifted.
+ *
+ * Layout (big-endian):
+ *   int magic "SMRP", int version
+ *   varint tickRate, str pathfinder           (must match to replay exactly)
+ *   long runSeed, varint level, long worldSeed
+ *   varint runCount, (byte mask, varint length)*
+ *   byte outcome, varint ticks, varint points (score earned in the level)
+ *   str = varint byte count + UTF-8
+ */
+public class Replay {
+    private static final int MAGIC = 0x534D5250; // "SMRP"
+    private static final int VERSION = 3; // 2: spawns placed through PlacementIndex, 3: ghosts pace each axis
+
+    public enum Outcome { UNFINISHED, COMPLETED, DIED }
+
+    private final int tickRate;
+    private final String pathfinder;
+    private final long runSeed;
+    private final int level;
+    private final long worldSeed;
+    private final byte[] runMasks;
+    private final int[] runLengths;
+    private final Outcome outcome;
+    private final int ticks;
+    private final int points;
+
+    private Replay(int tickRate, String pathfinder, long runSeed, int level, long worldSeed,
+                   byte[] runMasks, int[] runLengths, Outcome outcome, int ticks, int points) {
+        this.tickRate = tickRate;
+        this.pathfinder = pathfinder;
+        this.runSeed = runSeed;
+        this.level = level;
+        this.worldSeed = worldSeed;
+        this.runMasks = runMasks;
+        this.runLengths = runLengths;
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.points = points;
+    }
+
+    public int getTickRate() { return tickRate; }
+    public String getPathfinder() { return pathfinder; }
+    public long getRunSeed() { return runSeed; }
+    public int getLevel() { return level; }
+    public long getWorldSeed() { return worldSeed; }
+    public Outcome getOutcome() { return outcome; }
+    public int getTicks() { return ticks; }
+    public int getPoints() { return points; }
+    public int getRunCount() { return runMasks.length; }
+
+    /** Input masks in tick order; past the last recorded tick it keeps returning 0. */
+    public Inputs inputs() {
+        return new Inputs();
+    }
+
+    public class Inputs {
+        private int run, left = runLengths.length > 0 ? runLengths[0] : 0;
+
+        public int next() {
+            while (left == 0) {
+                if (++run >= runLengths.length) return 0;
+                left = runLengths[run];
+            }
+            left--;
+            return runMasks[run];
+        }
+    }
+
+    // === Encoding ===
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeVarint(out, tickRate);
+            writeString(out, pathfinder);
+            out.writeLong(runSeed);
+            writeVarint(out, level);
+            out.writeLong(worldSeed);
+            writeVarint(out, runMasks.length);
+            for (int i = 0; i < runMasks.length; i++) {
+                out.writeByte(runMasks[i]);
+                writeVarint(out, runLengths[i]);
+            }
+            out.writeByte(outcome.ordinal());
+            writeVarint(out, ticks);
+            writeVarint(out, points);
+        }
+    }
+
+    public static Replay read(Path file) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            if (in.getInt() != MAGIC) throw new IOException("not a replay");
+            int version = in.getInt();
+            if (version != VERSION) throw new IOException("unsupported replay version " + version);
+            int tickRate = readVarint(in);
+            String pathfinder = readString(in);
+            long runSeed = in.getLong();
+            int level = readVarint(in);
+            long worldSeed = in.getLong();
+            int runCount = readVarint(in);
+            byte[] masks = new byte[runCount];
+            int[] lengths = new int[runCount];
+            for (int i = 0; i < runCount; i++) {
+                masks[i] = in.get();
+                lengths[i] = readVarint(in);
+            }
+            Outcome outcome = Outcome.values()[in.get()];
+            int ticks = readVarint(in);
+            int points = readVarint(in);
+            return new Replay(tickRate, pathfinder, runSeed, level, worldSeed, masks, lengths, outcome, ticks, points);
+        } catch (RuntimeException e) {
+            throw new IOException("corrupt replay " + file.getFileName() + ": " + e);
+        }
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0, shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readVarint(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("level %d, run seed %x, world seed %x, %d ticks in %d runs, %s, %d points",
+                level, runSeed, worldSeed, ticks, runMasks.length, outcome, points);
+    }
+
+    // Runs are built by ReplayRecorder; copies keep the Replay immutable
+    static Replay of(int tickRate, String pathfinder, long runSeed, int level, long worldSeed,
+                     byte[] masks, int[] lengths, int runCount, Outcome outcome, int ticks, int points) {
+        return new Replay(tickRate, pathfinder, runSeed, level, worldSeed,
+                Arrays.copyOf(masks, runCount), Arrays.copyOf(lengths, runCount), outcome, ticks, points);
+    }
+}
@@ -0,0 +1,63 @@
+package main;
+
+import java.nio.file.*;
+
+/**
+ * Plays replays back headless, as fast as the CPU allows, and checks each
+ * ends the way it was recorded (same outcome, tick and points). Exits with
+ * status 1 if any replay drifted, so it can guard a build.
+ *
+ *   java -cp bin main.ReplayPlayer replays/level03-*.smreplay ...
+ *
+ * The tick rate and pathfinder are part of the simulation, so a replay
+ * recorded with -Dsoulmaze.tickRate / -Dsoulmaze.pathfinder has to be
+ * played back with the same settings.
+ */
+public class ReplayPlayer {
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        if (args.length == 0) {
+            System.err.println("usage: ReplayPlayer <replay.smreplay>...");
+            System.exit(2);
+        }
+        int drifted = 0;
+        for (String arg : args) {
+            Replay replay = Replay.read(Paths.get(arg));
+            System.out.println("[replay] " + arg + ": " + replay);
+            if (!play(replay)) drifted++;
+        }
+        if (drifted > 0) {
+            System.out.println("[replay] " + drifted + " of " + args.length + " replay(s) drifted");
+            System.exit(1);
+        }
+    }
+
+    /** Replays one recording; returns true if it ended exactly as recorded. */
+    public static boolean play(Replay replay) {
+        if (replay.getTickRate() != GameClock.TICK_RATE || !replay.getPathfinder().equals(Pathfinder.DEFAULT_KIND)) {
+            System.out.printf("[replay] recorded at %d Hz with %s ghosts; rerun with -Dsoulmaze.tickRate=%d -Dsoulmaze.pathfinder=%s%n",
+                    replay.getTickRate(), replay.getPathfinder(), replay.getTickRate(), replay.getPathfinder());
+            return false;
+        }
+
+        LevelManager levelManager = new LevelManager(replay.getRunSeed());
+        GameWorld world = new GameWorld(LevelState.build(levelManager, replay.getLevel(), replay.getWorldSeed()),
+                levelManager, null);
+        Replay.Inputs inputs = replay.inputs();
+
+        long start = System.nanoTime();
+        while (world.getTicks() < replay.getTicks() && !world.isFinished()) {
+            world.tick(inputs.next());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Replay.Outcome outcome = world.isLevelCompleted() ? Replay.Outcome.COMPLETED
+                : world.isGameOver() ? Replay.Outcome.DIED : Replay.Outcome.UNFINISHED;
+        boolean same = outcome == replay.getOutcome() && world.getTicks() == replay.getTicks()
+                && levelManager.getScore() == replay.getPoints();
+        System.out.printf("[replay] %s: %s at tick %d, %d points; %.1f ms, %.0fx real time%n",
+                same ? "ok" : "DRIFTED", outcome, world.getTicks(), levelManager.getScore(),
+                seconds * 1000, world.getTimeMillis() / 1000.0 / Math.max(seconds, 1e-9));
+        return same;
+    }
+}
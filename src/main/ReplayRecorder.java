@@ -0,0 +1,74 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Arrays;
+
+/**
+ * Records the input of one GameWorld, tick by tick, for a Replay.
+ * record() only extends the current run or starts a new one, so it's cheap
+ * enough to leave on in the game loop.
+ *
+ * GamePanel records every level when started with
+ * -Dsoulmaze.recordDir=replays (one file per attempt).
+ */
+public class ReplayRecorder {
+    /** Where GamePanel saves replays, or null when recording is off. */
+    public static final String RECORD_DIR = System.getProperty("soulmaze.recordDir");
+
+    private final long runSeed;
+    private final int level;
+    private final long worldSeed;
+    private final int startScore;
+    private byte[] masks = new byte[64];
+    private int[] lengths = new int[64];
+    private int runs;
+    private int ticks;
+
+    public ReplayRecorder(LevelManager levelManager, GameWorld world) {
+        this.runSeed = levelManager.getRunSeed();
+        this.level = world.getLevel();
+        this.worldSeed = world.getSeed();
+        this.startScore = levelManager.getScore();
+    }
+
+    /** The mask handed to GameWorld.tick() this tick. */
+    public void record(int input) {
+        byte mask = (byte) (input & PlayerInput.ALL);
+        ticks++;
+        if (runs > 0 && masks[runs - 1] == mask) {
+            lengths[runs - 1]++;
+            return;
+        }
+        if (runs == masks.length) {
+            masks = Arrays.copyOf(masks, runs * 2);
+            lengths = Arrays.copyOf(lengths, runs * 2);
+        }
+        masks[runs] = mask;
+        lengths[runs] = 1;
+        runs++;
+    }
+
+    /** The recording so far, with the world's outcome and the points it earned. */
+    public Replay finish(GameWorld world, LevelManager levelManager) {
+        Replay.Outcome outcome = world.isLevelCompleted() ? Replay.Outcome.COMPLETED
+                : world.isGameOver() ? Replay.Outcome.DIED : Replay.Outcome.UNFINISHED;
+        return Replay.of(GameClock.TICK_RATE, Pathfinder.DEFAULT_KIND, runSeed, level, worldSeed,
+                masks, lengths, runs, outcome, ticks, levelManager.getScore() - startScore);
+    }
+
+    /** Writes the replay into {@code dir}, named by level and seed; returns the file or null on error. */
+    public Path save(Path dir, GameWorld world, LevelManager levelManager) {
+        Replay replay = finish(world, levelManager);
+        try {
+            Files.createDirectories(dir);
+            Path file = dir.resolve(String.format("level%02d-%016x.smreplay", level, worldSeed));
+            replay.write(file);
+            System.out.println("[replay] saved " + file + ": " + replay);
+            return file;
+        } catch (IOException e) {
+            System.err.println("Error saving replay: " + e.getMessage());
+            return null;
+        }
+    }
+}
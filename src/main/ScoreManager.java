@@ -4,7 +4,11 @@ import java.io.*;
 import java.util.*;
 
 public class ScoreManager {
-    private static final String SCORES_FILE = "scores.txt";
+    // -Dsoulmaze.scoresFile=... or setScoresFile() (benchmarks) points it somewhere else
+    private static volatile String scoresFile = System.getProperty("soulmaze.scoresFile", "scores.txt");
+
+    public static String getScoresFile() { return scoresFile; }
+    public static void setScoresFile(String path) { scoresFile = path; }
     
     public static class PlayerScore implements Comparable<PlayerScore> {
         public String name;
@@ -40,7 +44,7 @@ public class ScoreManager {
             Collections.sort(scores);
             
             // Write back to file
-            try (PrintWriter writer = new PrintWriter(new FileWriter(SCORES_FILE))) {
+            try (PrintWriter writer = new PrintWriter(new FileWriter(scoresFile))) {
                 for (PlayerScore playerScore : scores) {
                     writer.println(playerScore.toString());
                 }
@@ -55,7 +59,7 @@ public class ScoreManager {
     public static List<PlayerScore> loadScores() {
         List<PlayerScore> scores = new ArrayList<>();
         
-        try (BufferedReader reader = new BufferedReader(new FileReader(SCORES_FILE))) {
+        try (BufferedReader reader = new BufferedReader(new FileReader(scoresFile))) {
             String line;
             while ((line = reader.readLine()) != null) {
                 String[] parts = line.split(":");
@@ -0,0 +1,112 @@
+package main;
+
+/**
+ * Reusable memory for grid searches, so a search allocates nothing.
+ *
+ * Tiles are flat indices (row * cols + col). Instead of clearing the visited
+ * array before every search, each search gets a new generation number and a
+ * tile counts as visited only if its stamp matches the current generation.
+ */
+public class SearchWorkspace {
+    private final int size;
+    private final int[] stamp;   // generation that last visited each tile
+    private final int[] closed;  // generation that closed (expanded) each tile
+    private final int[] parent;  // tile we came from, -1 for the start
+    private final int[] cost;    // steps from the search root
+    private int generation = 0;
+
+    // Ring-buffer queue of tile indices
+    private final int[] queue;
+    private final int mask;
+    private int head, tail;
+
+    // Output buffer for reconstructed paths
+    private final int[] path;
+
+    public SearchWorkspace(int tileCount) {
+        this.size = tileCount;
+        this.stamp = new int[tileCount];
+        this.closed = new int[tileCount];
+        this.parent = new int[tileCount];
+        this.cost = new int[tileCount];
+        this.queue = new int[Integer.highestOneBit(Math.max(1, tileCount - 1)) << 1];
+        this.mask = queue.length - 1;
+        this.path = new int[tileCount];
+    }
+
+    /** Starts a new search: forgets every visit from the previous one in O(1). */
+    public void begin() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // wrapped around: clear once so old stamps can't match by accident
+            java.util.Arrays.fill(stamp, 0);
+            java.util.Arrays.fill(closed, 0);
+            generation = 1;
+        }
+        head = tail = 0;
+    }
+
+    public int size() { return size; }
+
+    // === Visited / parent / cost ===
+    public boolean isVisited(int tile) {
+        return stamp[tile] == generation;
+    }
+
+    public void visit(int tile, int from, int steps) {
+        stamp[tile] = generation;
+        parent[tile] = from;
+        cost[tile] = steps;
+    }
+
+    /** Steps from the root, or -1 if the tile wasn't reached this search. */
+    public int costOf(int tile) {
+        return stamp[tile] == generation ? cost[tile] : -1;
+    }
+
+    public int parentOf(int tile) {
+        return stamp[tile] == generation ? parent[tile] : -1;
+    }
+
+    /** Marks a tile as expanded (for searches that can reach a tile more than once). */
+    public void close(int tile) {
+        closed[tile] = generation;
+    }
+
+    public boolean isClosed(int tile) {
+        return closed[tile] == generation;
+    }
+
+    // === Queue ===
+    public void push(int tile) {
+        queue[tail++ & mask] = tile;
+    }
+
+    public int pop() {
+        return queue[head++ & mask];
+    }
+
+    public boolean isQueueEmpty() {
+        return head == tail;
+    }
+
+    // === Paths ===
+    /**
+     * Follows parents from {@code tile} back to the root and writes the tiles
+     * into the path buffer root-first.
+     * @return number of tiles written, 0 if the tile wasn't reached
+     */
+    public int tracePath(int tile) {
+        if (!isVisited(tile)) return 0;
+        int length = 0;
+        for (int t = tile; t != -1; t = parent[t]) length++;
+        int i = length;
+        for (int t = tile; t != -1; t = parent[t]) path[--i] = t;
+        return length;
+    }
+
+    /** The buffer tracePath writes to; only the first N entries are valid. */
+    public int[] getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,58 @@
+package main;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free triple buffer of RenderSnapshots between the game thread (one
+ * writer) and whoever draws (one reader at a time).
+ *
+ * The writer fills back() and publish()es it; the reader's latest() picks
+ * up the newest published snapshot. Three buffers means neither side ever
+ * waits: the writer always has a buffer nobody reads, the reader keeps its
+ * snapshot for as long as it draws, and the one in the middle is swapped
+ * with a single atomic getAndSet. A reader that is slower than the ticks
+ * just skips the snapshots it missed.
+ *
+ * Which thread reads depends on the renderer, never on the frame: with the
+ * canvas only the game thread calls latest() (when the canvas presents),
+ * and paintComponent returns before reading while the canvas is showing.
+ * With -Dsoulmaze.renderer=swing there is no canvas and only the EDT
+ * calls latest(), while the game thread keeps publishing and repaint()ing.
+ * Don't add a latest() call on the game thread outside the canvas path: a
+ * second reader could swap away the buffer the first is still drawing, and
+ * the writer would then refill it mid-frame.
+ */
+public class SnapshotBuffer {
+    private static final int INDEX = 0b11;
+    private static final int FRESH = 0b100; // middle holds a snapshot the reader hasn't seen
+
+    private final RenderSnapshot[] buffers = {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;           // writer's
+    private volatile int front = 2; // reader's; volatile since the reader can change threads
+    private long published;
+
+    /** The buffer to fill next; writer only. */
+    public RenderSnapshot back() {
+        return buffers[back];
+    }
+
+    /** Hands back() to the reader and takes the middle buffer to write into next. */
+    public void publish() {
+        buffers[back].sequence = ++published;
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /** Number of publish() calls so far; writer only. */
+    public long getPublished() {
+        return published;
+    }
+
+    /** The newest published snapshot (empty before the first publish). Reader only. */
+    public RenderSnapshot latest() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        return buffers[front];
+    }
+}
@@ -0,0 +1,89 @@
+package main;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.RadialGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Pre-rendered glow + sprite for one soul color.
+ * The pulsing glow is baked into FRAMES images per variant (lying on the
+ * ground / held by the player), so drawing a soul is two plain blits.
+ */
+public class SoulGlow {
+    public static final int FRAMES = 32; // pulse frames per full glow cycle
+
+    private final BufferedImage sprite;
+    private final BufferedImage[] dropped = new BufferedImage[FRAMES];
+    private final int[] droppedOffset = new int[FRAMES];
+    private final BufferedImage[] held = new BufferedImage[FRAMES];
+    private final int[] heldOffset = new int[FRAMES];
+    private final int size;
+
+    public SoulGlow(Color color, Image spriteImage, int size) {
+        this.size = size;
+        this.sprite = CompatibleImages.create(size, size, Transparency.TRANSLUCENT);
+        Graphics2D g2 = sprite.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        if (spriteImage != null) {
+            g2.drawImage(spriteImage, 0, 0, size, size, null);
+        } else {
+            g2.setColor(Color.MAGENTA);
+            g2.fillRect(0, 0, size, size);
+        }
+        g2.dispose();
+
+        for (int i = 0; i < FRAMES; i++) {
+            float pulse = (float) ((Math.sin(i * Math.PI * 2 / FRAMES) + 1) / 2); // oscillates 0–1
+
+            // Lying on the ground: +30 glow, alpha 80–180
+            int glowSize = (int) (size + 30 + pulse * 10);
+            dropped[i] = bakeGlow(color, glowSize, (int) (80 + pulse * 100));
+            droppedOffset[i] = (glowSize - size) / 2;
+
+            // Held: bigger and brighter, +45 glow, alpha 120–255
+            glowSize = (int) (size + 45 + pulse * 12);
+            held[i] = bakeGlow(color, glowSize, (int) (120 + pulse * 135));
+            heldOffset[i] = (glowSize - size) / 2;
+        }
+    }
+
+    private BufferedImage bakeGlow(Color color, int glowSize, int alpha) {
+        BufferedImage img = CompatibleImages.create(glowSize, glowSize, Transparency.TRANSLUCENT);
+        Graphics2D g2 = img.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int offset = (glowSize - size) / 2;
+        Color glowColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha);
+        g2.setPaint(new RadialGradientPaint(
+            new Point(offset + size / 2, offset + size / 2),
+            glowSize / 2f,
+            new float[]{0f, 1f},
+            new Color[]{glowColor, new Color(0, 0, 0, 0)}
+        ));
+        g2.fillOval(0, 0, glowSize, glowSize);
+        g2.dispose();
+        return img;
+    }
+
+    /** Draws glow + sprite with the sprite's top-left at (x, y). */
+    public void draw(Graphics g, int x, int y, float glowPhase, boolean isHeld) {
+        int frame = frameFor(glowPhase);
+        if (isHeld) {
+            g.drawImage(held[frame], x - heldOffset[frame], y - heldOffset[frame], null);
+        } else {
+            g.drawImage(dropped[frame], x - droppedOffset[frame], y - droppedOffset[frame], null);
+        }
+        g.drawImage(sprite, x, y, null);
+    }
+
+    private static int frameFor(float glowPhase) {
+        double turns = glowPhase / (Math.PI * 2);
+        int frame = (int) Math.round((turns - Math.floor(turns)) * FRAMES);
+        return frame % FRAMES;
+    }
+}
@@ -0,0 +1,188 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Uniform-grid spatial hash of pixel boxes, for "what is near this box"
+ * questions in the tick loop (pickup, drop on a grave, ghost hits).
+ *
+ * Cells are CELL_TILES maze tiles square, so every entity (at most 60px)
+ * sits in at most 2 x 2 cells. Each item remembers its box and cell range:
+ * move() only touches the cell lists when the range actually changes,
+ * which for a ghost is once every few dozen ticks. Queries return each
+ * item once (a per-query stamp skips repeats from neighbouring cells) and
+ * allocate nothing. Boxes outside the grid are clamped to the edge cells.
+ */
+public class SpatialGrid<T> {
+    public static final int CELL_TILES = 8;
+
+    private final int cellSize, cols, rows;
+    private final List<Entry<T>>[] cells;
+    private final IdentityHashMap<T, Entry<T>> entries = new IdentityHashMap<>();
+    private int stamp = 0;
+
+    private static final class Entry<T> {
+        final T item;
+        int x, y, w, h;
+        int c0, r0, c1, r1; // cell range, inclusive
+        int stamp;
+
+        Entry(T item) { this.item = item; }
+    }
+
+    /** A grid covering the maze, CELL_TILES tiles per cell. */
+    public static <T> SpatialGrid<T> forMaze(Maze maze) {
+        return new SpatialGrid<>(maze.getCols() * maze.tileSize, maze.getRows() * maze.tileSize,
+                CELL_TILES * maze.tileSize);
+    }
+
+    public SpatialGrid(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (width + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<Entry<T>>[] cells = new List[cols * rows];
+        for (int i = 0; i < cells.length; i++) cells[i] = new ArrayList<>(4);
+        this.cells = cells;
+    }
+
+    public int size() { return entries.size(); }
+
+    public boolean contains(T item) { return entries.containsKey(item); }
+
+    // === Updates ===
+    /** Adds the item with box (x, y, w, h), or moves it there if it's already in. */
+    public void insert(T item, int x, int y, int w, int h) {
+        Entry<T> e = entries.get(item);
+        if (e != null) {
+            e.w = w;
+            e.h = h;
+            move(e, x, y);
+            return;
+        }
+        e = new Entry<>(item);
+        e.x = x;
+        e.y = y;
+        e.w = w;
+        e.h = h;
+        setRange(e);
+        addToCells(e);
+        entries.put(item, e);
+    }
+
+    /** Moves an item already in the grid to a new top-left; its size stays. */
+    public void move(T item, int x, int y) {
+        Entry<T> e = entries.get(item);
+        if (e != null) move(e, x, y);
+    }
+
+    private void move(Entry<T> e, int x, int y) {
+        int c0 = e.c0, r0 = e.r0, c1 = e.c1, r1 = e.r1;
+        e.x = x;
+        e.y = y;
+        setRange(e);
+        if (c0 == e.c0 && r0 == e.r0 && c1 == e.c1 && r1 == e.r1) return; // same cells, nothing to relink
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) cells[r * cols + c].remove(e);
+        }
+        addToCells(e);
+    }
+
+    public boolean remove(T item) {
+        Entry<T> e = entries.remove(item);
+        if (e == null) return false;
+        for (int r = e.r0; r <= e.r1; r++) {
+            for (int c = e.c0; c <= e.c1; c++) cells[r * cols + c].remove(e);
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (List<Entry<T>> cell : cells) cell.clear();
+        entries.clear();
+    }
+
+    private void setRange(Entry<T> e) {
+        e.c0 = cellCol(e.x);
+        e.r0 = cellRow(e.y);
+        e.c1 = cellCol(e.x + e.w - 1);
+        e.r1 = cellRow(e.y + e.h - 1);
+    }
+
+    private void addToCells(Entry<T> e) {
+        for (int r = e.r0; r <= e.r1; r++) {
+            for (int c = e.c0; c <= e.c1; c++) cells[r * cols + c].add(e);
+        }
+    }
+
+    private int cellCol(int px) {
+        return Math.min(cols - 1, Math.max(0, Math.floorDiv(px, cellSize)));
+    }
+
+    private int cellRow(int py) {
+        return Math.min(rows - 1, Math.max(0, Math.floorDiv(py, cellSize)));
+    }
+
+    // === Queries ===
+    /**
+     * Appends every item whose box overlaps (x, y, w, h) to {@code out}, each
+     * once. Touching edges don't count, same as Rectangle.intersects.
+     * @return number of items appended
+     */
+    public int query(int x, int y, int w, int h, List<T> out) {
+        int found = 0;
+        int s = nextStamp();
+        int c0 = cellCol(x), c1 = cellCol(x + w - 1);
+        int r0 = cellRow(y), r1 = cellRow(y + h - 1);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                List<Entry<T>> cell = cells[r * cols + c];
+                for (int i = 0, n = cell.size(); i < n; i++) {
+                    Entry<T> e = cell.get(i);
+                    if (e.stamp == s) continue;
+                    e.stamp = s;
+                    if (overlaps(e, x, y, w, h)) {
+                        out.add(e.item);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /** The first item (in cell order) overlapping the box, or null. */
+    public T first(int x, int y, int w, int h) {
+        int s = nextStamp();
+        int c0 = cellCol(x), c1 = cellCol(x + w - 1);
+        int r0 = cellRow(y), r1 = cellRow(y + h - 1);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                List<Entry<T>> cell = cells[r * cols + c];
+                for (int i = 0, n = cell.size(); i < n; i++) {
+                    Entry<T> e = cell.get(i);
+                    if (e.stamp == s) continue;
+                    e.stamp = s;
+                    if (overlaps(e, x, y, w, h)) return e.item;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean overlaps(Entry<?> e, int x, int y, int w, int h) {
+        return w > 0 && h > 0 && e.w > 0 && e.h > 0
+                && e.x < x + w && x < e.x + e.w && e.y < y + h && y < e.y + e.h;
+    }
+
+    private int nextStamp() {
+        if (++stamp == 0) {
+            // wrapped: old stamps could match again, so reset them once
+            for (Entry<T> e : entries.values()) e.stamp = 0;
+            stamp = 1;
+        }
+        return stamp;
+    }
+}
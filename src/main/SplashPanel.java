@@ -0,0 +1,48 @@
+package main;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Shown while the main menu's assets load: the title and a progress bar.
+ * Needs no images itself, so it can appear right away.
+ */
+public class SplashPanel extends JPanel {
+    private static final Color BAR_COLOR = new Color(160, 0, 0);
+    private volatile int done, total;
+
+    public SplashPanel() {
+        setPreferredSize(new Dimension(1280, 800));
+        setBackground(Color.BLACK);
+    }
+
+    /** Safe to call from any thread. */
+    public void setProgress(int done, int total) {
+        this.done = done;
+        this.total = total;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        g2.setColor(Color.RED);
+        g2.setFont(new Font("Chiller", Font.BOLD, 72));
+        FontMetrics fm = g2.getFontMetrics();
+        String title = "Soul Maze";
+        g2.drawString(title, (getWidth() - fm.stringWidth(title)) / 2, getHeight() / 2 - 40);
+
+        int barW = 400, barH = 6;
+        int x = (getWidth() - barW) / 2, y = getHeight() / 2 + 10;
+        g2.setColor(Color.DARK_GRAY);
+        g2.fillRect(x, y, barW, barH);
+        int t = total;
+        if (t > 0) {
+            g2.setColor(BAR_COLOR);
+            g2.fillRect(x, y, barW * done / t, barH);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package main;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entity sprites pre-scaled to their on-screen size and packed into one
+ * screen-compatible image, so drawing an entity is an unscaled blit of a
+ * sub-rectangle out of a single (accelerated) surface.
+ *
+ * Sprites are registered once (register() returns an id) and drawn by id
+ * and size. The first draw at a size the atlas doesn't have yet rebuilds
+ * it with that size added, so changing Player.size or Ghost.size just
+ * costs one rebuild. Rebuilds swap in a new immutable layout, so drawing
+ * needs no locking.
+ */
+public class SpriteAtlas {
+    /** Player, ghost and grave sprites. */
+    public static final SpriteAtlas ENTITIES = new SpriteAtlas(512);
+
+    private static final int PADDING = 1; // keeps filtering from bleeding in when the screen is scaled
+
+    private final int width;
+    private final List<Image> sources = new ArrayList<>();
+    private final List<int[]> sizes = new ArrayList<>(); // per id: w, h, w, h, ...
+    private volatile Layout layout = new Layout(null, new int[0][]);
+    private int rebuilds;
+
+    public SpriteAtlas(int width) {
+        this.width = width;
+    }
+
+    // Immutable result of a build: the image and, per id, w, h, sx, sy for each size
+    private static final class Layout {
+        final BufferedImage image;
+        final int[][] regions;
+
+        Layout(BufferedImage image, int[][] regions) {
+            this.image = image;
+            this.regions = regions;
+        }
+
+        int find(int id, int w, int h) {
+            if (id >= regions.length) return -1;
+            int[] r = regions[id];
+            for (int i = 0; i < r.length; i += 4) {
+                if (r[i] == w && r[i + 1] == h) return i;
+            }
+            return -1;
+        }
+    }
+
+    /** Adds a source image; {@code source} may be null (missing asset), draw() then returns false. */
+    public synchronized int register(Image source) {
+        sources.add(source);
+        sizes.add(new int[0]);
+        return sources.size() - 1;
+    }
+
+    /**
+     * Draws sprite {@code id} at (x, y), w x h pixels on screen.
+     * @return false if the sprite has no image (caller draws its fallback)
+     */
+    public boolean draw(Graphics g, int id, int x, int y, int w, int h) {
+        Layout l = layout;
+        int i = l.find(id, w, h);
+        if (i < 0) {
+            l = ensure(id, w, h);
+            i = l.find(id, w, h);
+            if (i < 0) return false;
+        }
+        int[] r = l.regions[id];
+        int sx = r[i + 2], sy = r[i + 3];
+        if (sx < 0) return false;
+        g.drawImage(l.image, x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
+        return true;
+    }
+
+    /** How many times the atlas has been (re)built. */
+    public synchronized int getRebuilds() {
+        return rebuilds;
+    }
+
+    /** The packed image (null before the first draw); for debugging and benchmarks. */
+    public BufferedImage getImage() {
+        return layout.image;
+    }
+
+    // Adds a size for the sprite and rebuilds, unless another thread just did
+    private synchronized Layout ensure(int id, int w, int h) {
+        if (id < 0 || id >= sources.size() || w <= 0 || h <= 0) return layout;
+        if (layout.find(id, w, h) >= 0) return layout;
+        int[] s = sizes.get(id);
+        int[] grown = Arrays.copyOf(s, s.length + 2);
+        grown[s.length] = w;
+        grown[s.length + 1] = h;
+        sizes.set(id, grown);
+        layout = build();
+        rebuilds++;
+        return layout;
+    }
+
+    // Shelf packing, tallest first: each row is as tall as its first sprite
+    private Layout build() {
+        List<int[]> items = new ArrayList<>(); // id, size index, w, h
+        for (int id = 0; id < sources.size(); id++) {
+            int[] s = sizes.get(id);
+            for (int k = 0; k < s.length; k += 2) items.add(new int[]{id, k, s[k], s[k + 1]});
+        }
+        items.sort((a, b) -> b[3] != a[3] ? b[3] - a[3] : b[2] - a[2]);
+
+        int[][] regions = new int[sources.size()][];
+        for (int id = 0; id < regions.length; id++) regions[id] = new int[sizes.get(id).length * 2];
+
+        int x = 0, y = 0, rowH = 0, usedW = 1;
+        List<int[]> placed = new ArrayList<>(); // id, w, h, sx, sy
+        for (int[] it : items) {
+            int id = it[0], k = it[1], w = it[2], h = it[3];
+            int[] r = regions[id];
+            r[k * 2] = w;
+            r[k * 2 + 1] = h;
+            if (sources.get(id) == null) {
+                r[k * 2 + 2] = -1; // no image: draw() reports it
+                continue;
+            }
+            if (x > 0 && x + w > width) {
+                x = 0;
+                y += rowH + PADDING;
+                rowH = 0;
+            }
+            r[k * 2 + 2] = x;
+            r[k * 2 + 3] = y;
+            placed.add(new int[]{id, w, h, x, y});
+            usedW = Math.max(usedW, x + w);
+            rowH = Math.max(rowH, h);
+            x += w + PADDING;
+        }
+        if (placed.isEmpty()) return new Layout(null, regions);
+
+        BufferedImage image = CompatibleImages.create(usedW, y + rowH, Transparency.TRANSLUCENT);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        for (int[] p : placed) {
+            g.drawImage(sources.get(p[0]), p[3], p[4], p[1], p[2], null);
+        }
+        g.dispose();
+        return new Layout(image, regions);
+    }
+}
@@ -0,0 +1,41 @@
+package main;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Startup milestones measured from JVM start (RuntimeMXBean start time), so
+ * the numbers include JVM boot and class loading, not just our own code.
+ *
+ *   [startup] menu interactive at 812 ms (jvm start -> main 95 ms)
+ *
+ * -Dsoulmaze.exitAfterStartup=true quits once the menu is interactive, for
+ * measuring startup from a script.
+ */
+public final class StartupTimer {
+    private static final long JVM_START_MILLIS = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private static volatile long mainMillis = -1;
+    private static volatile boolean reported;
+
+    private StartupTimer() {}
+
+    /** Milliseconds since the JVM started. */
+    public static long sinceJvmStart() {
+        return System.currentTimeMillis() - JVM_START_MILLIS;
+    }
+
+    /** Logs a milestone; the first one should be the start of main(). */
+    public static void mark(String milestone) {
+        long at = sinceJvmStart();
+        if (mainMillis < 0) mainMillis = at;
+        System.out.println("[startup] " + milestone + " at " + at + " ms");
+    }
+
+    /** The menu can take input: log the headline number (first call only) and maybe exit. */
+    public static void interactive() {
+        if (reported) return;
+        reported = true;
+        long at = sinceJvmStart();
+        System.out.println("[startup] menu interactive at " + at + " ms (jvm start -> main " + mainMillis + " ms)");
+        if (Boolean.getBoolean("soulmaze.exitAfterStartup")) System.exit(0);
+    }
+}
@@ -0,0 +1,76 @@
+package main;
+
+/**
+ * Compact copy of a maze layout.
+ *
+ * Walls are a bitset, one run of longs per row (bit c of the row = column c),
+ * so "any wall in this row between columns a and b" is a mask-and-test on
+ * one or two words instead of a charAt per tile. Tile types are kept as one
+ * byte per tile (the layout character: 'X', ' ', 'P', 'E', 'G', '0').
+ *
+ * Anything outside the grid counts as a wall, same as Maze.isWall always did.
+ */
+public class TileGrid {
+    private final int rows, cols;
+    private final int wordsPerRow;
+    private final long[] wallBits; // row r lives in [r * wordsPerRow, (r + 1) * wordsPerRow)
+    private final byte[] types;
+
+    public TileGrid(String[] layout) {
+        rows = layout.length;
+        cols = layout[0].length();
+        wordsPerRow = (cols + 63) >>> 6;
+        wallBits = new long[rows * wordsPerRow];
+        types = new byte[rows * cols];
+
+        for (int r = 0; r < rows; r++) {
+            String line = layout[r];
+            for (int c = 0; c < cols; c++) {
+                // short rows are padded with wall, like isWall treated them
+                char ch = c < line.length() ? line.charAt(c) : Maze.WALL;
+                types[r * cols + c] = (byte) ch;
+                if (ch == Maze.WALL) wallBits[r * wordsPerRow + (c >>> 6)] |= 1L << (c & 63);
+            }
+        }
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    public boolean isWall(int row, int col) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols) return true;
+        return (wallBits[row * wordsPerRow + (col >>> 6)] & (1L << (col & 63))) != 0;
+    }
+
+    /** Layout character at (row, col); walls outside the grid. */
+    public char getTile(int row, int col) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols) return Maze.WALL;
+        return (char) types[row * cols + col];
+    }
+
+    /** True if any tile in row {@code row}, columns {@code fromCol..toCol} inclusive, is a wall. */
+    public boolean anyWallInRow(int row, int fromCol, int toCol) {
+        if (fromCol > toCol) return false;
+        if (row < 0 || row >= rows || fromCol < 0 || toCol >= cols) return true;
+
+        int base = row * wordsPerRow;
+        int firstWord = fromCol >>> 6, lastWord = toCol >>> 6;
+        long firstMask = -1L << (fromCol & 63);
+        long lastMask = -1L >>> (63 - (toCol & 63));
+
+        if (firstWord == lastWord) return (wallBits[base + firstWord] & firstMask & lastMask) != 0;
+        if ((wallBits[base + firstWord] & firstMask) != 0) return true;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            if (wallBits[base + w] != 0) return true;
+        }
+        return (wallBits[base + lastWord] & lastMask) != 0;
+    }
+
+    /** True if any tile in the inclusive tile rectangle is a wall. */
+    public boolean anyWallInRect(int fromRow, int fromCol, int toRow, int toCol) {
+        for (int r = fromRow; r <= toRow; r++) {
+            if (anyWallInRow(r, fromCol, toCol)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,104 @@
+package main;
+
+/**
+ * Binary min-heap of tile indices keyed by a long priority, on plain arrays.
+ * Knows where each tile sits so keys can be changed or tiles removed in
+ * O(log n). clear() is O(1): stale positions are detected, not wiped.
+ */
+public class TileHeap {
+    private final int[] heap;   // heap slot -> tile
+    private final long[] keys;  // heap slot -> priority
+    private final int[] pos;    // tile -> heap slot (only valid while contains())
+    private int size;
+
+    public TileHeap(int tileCount) {
+        heap = new int[tileCount];
+        keys = new long[tileCount];
+        pos = new int[tileCount];
+    }
+
+    public void clear() { size = 0; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int size() { return size; }
+
+    public boolean contains(int tile) {
+        int i = pos[tile];
+        return i < size && heap[i] == tile;
+    }
+
+    /** Inserts the tile, or moves it if it is already queued. */
+    public void put(int tile, long key) {
+        if (contains(tile)) {
+            int i = pos[tile];
+            long old = keys[i];
+            keys[i] = key;
+            if (key < old) siftUp(i); else siftDown(i);
+            return;
+        }
+        int i = size++;
+        heap[i] = tile;
+        keys[i] = key;
+        pos[tile] = i;
+        siftUp(i);
+    }
+
+    public int peek() { return heap[0]; }
+
+    public long peekKey() { return keys[0]; }
+
+    public int pop() {
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    public void remove(int tile) {
+        if (contains(tile)) removeAt(pos[tile]);
+    }
+
+    private void removeAt(int i) {
+        int last = --size;
+        if (i == last) return;
+        move(last, i);
+        siftDown(i);
+        siftUp(i);
+    }
+
+    private void siftUp(int i) {
+        int tile = heap[i];
+        long key = keys[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            move(parent, i);
+            i = parent;
+        }
+        heap[i] = tile;
+        keys[i] = key;
+        pos[tile] = i;
+    }
+
+    private void siftDown(int i) {
+        int tile = heap[i];
+        long key = keys[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) child++;
+            if (key <= keys[child]) break;
+            move(child, i);
+            i = child;
+        }
+        heap[i] = tile;
+        keys[i] = key;
+        pos[tile] = i;
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        keys[to] = keys[from];
+        pos[heap[to]] = to;
+    }
+}
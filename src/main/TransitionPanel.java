@@ -27,7 +27,7 @@ public class TransitionPanel extends JPanel implements ActionListener {
         
         // Load the transition image
         try {
-            backgroundImage = new ImageIcon(imagePath).getImage();
+            backgroundImage = AssetCache.pinImage(imagePath);
         } catch (Exception e) {
             System.err.println("Error loading transition image: " + e.getMessage());
         }
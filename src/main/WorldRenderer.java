@@ -0,0 +1,128 @@
+package main;
+
+import java.awt.*;
+
+/**
+ * Draws a RenderSnapshot: maze, ghosts, graves, player, fog, souls and the
+ * HUD, with moving things placed {@code alpha} of the way between their
+ * start-of-tick and end-of-tick positions. Reads nothing but the snapshot,
+ * so it never races the game thread.
+ */
+public class WorldRenderer {
+    private static final Color BLEED_COLOR = new Color(255, 0, 0, 80); // red wash while bleeding
+    private static final Font END_FONT = new Font("Arial", Font.BOLD, 40);
+    private static final Font HUD_FONT = new Font("Chiller", Font.BOLD, 20);
+    // Bloody red gradient
+    private static final GradientPaint HUD_PAINT = new GradientPaint(0, 0, Color.RED, 0, 50, Color.BLACK, true);
+
+    private final FogLayer fog = new FogLayer("src/assets/Images/fog.png");
+
+    // "Score: N" only changes when the score does
+    private int scoreShown = -1;
+    private String scoreText;
+
+    // === Per-layer timing (frame profiler) ===
+    /** Layers in draw order; index into the array given to setLayerTimes. */
+    public static final String[] LAYERS = {"maze", "ghosts", "graves", "player", "fog", "souls", "hud"};
+    private long[] layerNanos; // null = not timed
+    private long lapStart;
+
+    /**
+     * After each render, {@code out[i]} holds how long LAYERS[i] took
+     * (fog includes the bleeding wash and the end text). null turns it off.
+     */
+    public void setLayerTimes(long[] out) {
+        layerNanos = out;
+    }
+
+    /** Draws one full frame of {@code s} into a width x height area. */
+    public void render(Graphics g, RenderSnapshot s, double alpha, int width, int height) {
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, width, height);
+        if (s.maze == null) return; // nothing published yet
+        if (layerNanos != null) lapStart = System.nanoTime();
+
+        s.maze.draw(g);
+        lap(0);
+
+        // Draw all ghosts
+        for (int i = 0; i < s.ghostCount; i++) {
+            Ghost.draw(g, lerp(s.ghostPrevX[i], s.ghostX[i], alpha), lerp(s.ghostPrevY[i], s.ghostY[i], alpha),
+                    s.ghostSize[i]);
+        }
+        lap(1);
+
+        for (int i = 0; i < s.graveCount; i++) {
+            Grave.draw(g, s.graveSprite[i], s.graveX[i], s.graveY[i]);
+        }
+        lap(2);
+
+        int px = lerp(s.playerPrevX, s.playerX, alpha);
+        int py = lerp(s.playerPrevY, s.playerY, alpha);
+        Player.draw(g, px, py, s.playerSize, s.playerFacing);
+        if (s.heldSoul != null) {
+            Soul.draw(g, s.heldSoul, px + s.playerSize / 4, py - 20, s.heldPhase, true);
+        }
+        lap(3);
+
+        // === Draw fog overlay ===
+        drawFog(g, s, px + s.playerSize / 2, py + s.playerSize / 2, width, height);
+        if (s.gameOver) {
+            g.setColor(Color.RED);
+            g.setFont(END_FONT);
+            if (s.victory) {
+                g.drawString("VICTORY!", 500, 380);
+            } else {
+                g.drawString("GAME OVER", 480, 380);
+            }
+        }
+        lap(4);
+        for (int i = 0; i < s.soulCount; i++) {
+            Soul.draw(g, s.soulColor[i], s.soulX[i], s.soulY[i], s.soulPhase[i], false);
+        }
+        lap(5);
+
+        drawHud((Graphics2D) g, s);
+        lap(6);
+    }
+
+    private void lap(int layer) {
+        if (layerNanos == null) return;
+        long now = System.nanoTime();
+        layerNanos[layer] = now - lapStart;
+        lapStart = now;
+    }
+
+    private void drawFog(Graphics g, RenderSnapshot s, int cx, int cy, int width, int height) {
+        // === Smooth circular reveal around player (center clear, edge dark) ===
+        fog.draw(g, width, height, cx, cy, s.fogRadius);
+
+        // --- Overlay bleeding effect ---
+        if (s.bleeding) {
+            Color old = g.getColor();
+            g.setColor(BLEED_COLOR);
+            g.fillRect(0, 0, width, height);
+            g.setColor(old);
+        }
+    }
+
+    private void drawHud(Graphics2D g2, RenderSnapshot s) {
+        if (s.score != scoreShown) {
+            scoreShown = s.score;
+            scoreText = "Score: " + s.score;
+        }
+        g2.setFont(HUD_FONT);
+        g2.setPaint(HUD_PAINT);
+
+        // Add shadow for creepiness
+        g2.drawString(scoreText, 20, 30);
+        g2.drawString(s.levelDescription, 20, 50);
+        g2.setColor(Color.RED);
+        g2.drawString(scoreText, 19, 29);
+        g2.drawString(s.levelDescription, 19, 49);
+    }
+
+    private static int lerp(int from, int to, double alpha) {
+        return (int) Math.round(from + (to - from) * alpha);
+    }
+}